@@ -0,0 +1,46 @@
+#!/usr/bin/env bash
+# ========================================
+# 플랫폼 스레드 vs 가상 스레드 부하 테스트 비교
+# ========================================
+# - 1천/1만 연결 x platform/virtual 네 가지 조합을 같은 조건으로 실행
+# - 각 실행의 TOTAL 행(처리량, p99, p99.9, 실패 수)을 results/platform-vs-virtual.md 표로 모음
+# - 먼저 프로젝트 루트에서 mvn install -DskipTests
+# - virtual은 Java 21 이상에서만 실행 (그보다 낮으면 platform만 측정하고 virtual 행은 미측정으로 남김)
+# - 1만 연결은 ulimit -n 65536 이상 필요
+# - 실행: cd benchmarks && ./compare-threads.sh (부하 옵션 추가: ./compare-threads.sh durationSeconds=120)
+set -euo pipefail
+
+cd "$(dirname "$0")"
+results=results/platform-vs-virtual.md
+common="dbLatencyMillis=5 poolSize=20 $*"
+java_major=$(java -version 2>&1 | head -n 1 | sed -E 's/[^"]*"(1\.)?([0-9]+).*/\2/')
+
+rows=""
+for clients in 1000 10000; do
+  for threads in platform virtual; do
+    if [ "$threads" = virtual ] && [ "$java_major" -lt 21 ]; then
+      echo "threads=virtual 건너뜀: Java 21 이상 필요 (현재 $java_major)" >&2
+      rows+="| $clients | $threads | 미측정 (Java 21 필요) | - | - | - |"$'\n'
+      continue
+    fi
+    output=target/load-test/$threads-$clients
+    mvn -q compile exec:exec@load-test -Dload.args="clients=$clients threads=$threads $common output=$output"
+    # TOTAL 행: endpoint requests errors req/s p50 p95 p99 p999 max
+    read -r _ requests errors rps _ _ p99 p999 _ < <(grep '^TOTAL' "$output/summary.txt")
+    rows+="| $clients | $threads | $rps | $p99 | $p999 | $errors / $requests |"$'\n'
+  done
+done
+
+{
+  echo "# 플랫폼 스레드 vs 가상 스레드"
+  echo
+  echo "- 측정일: $(date +%Y-%m-%d), JVM: $(java -version 2>&1 | head -n 1)"
+  echo "- CPU: $(nproc)코어, 옵션: \`$common\`"
+  echo "- 생성: \`./compare-threads.sh\` (엔드포인트별 표는 \`target/load-test/<threads>-<clients>/summary.txt\`)"
+  echo
+  echo "| 연결 수 | 스레드 | 처리량 (req/s) | p99 (ms) | p99.9 (ms) | 실패 / 성공 |"
+  echo "|---:|---|---:|---:|---:|---:|"
+  printf '%s' "$rows"
+} > "$results"
+
+cat "$results"
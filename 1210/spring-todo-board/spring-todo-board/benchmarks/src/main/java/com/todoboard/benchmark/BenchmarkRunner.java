@@ -0,0 +1,32 @@
+package com.todoboard.benchmark;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * ========================================
+ * 벤치마크 실행 진입점
+ * ========================================
+ * - 처리량(ops/s)과 평균 시간(us/op)을 함께 측정
+ * - GC 프로파일러로 연산당 할당량(gc.alloc.rate.norm) 보고
+ * - JMH 명령행 옵션을 그대로 받음 (예: -p todoCount=1000, ServiceBenchmark.search)
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(BenchmarkRunner.class.getPackage().getName() + ".*Benchmark")
+                .mode(Mode.Throughput)
+                .mode(Mode.AverageTime)
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,73 @@
+package com.todoboard.benchmark;
+
+import com.todoboard.entity.Todo;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ========================================
+ * 벤치마크/부하 테스트용 데이터 생성
+ * ========================================
+ * - 게시글 i의 댓글 수는 i % 5 (평균 2개), HOT_TODO_ID는 댓글 HOT_COMMENT_COUNT개
+ * - 제목은 TITLE_WORDS를 돌아가며 사용하므로 검색어 하나가 전체의 1/8에 일치
+ * - 같은 todoCount면 항상 같은 데이터가 만들어짐 (실행끼리 결과 비교 가능)
+ * - 스키마는 애플리케이션 시작 시 Flyway 마이그레이션으로 만들어진 상태를 전제로 함
+ */
+final class BoardSeeder {
+
+    static final String[] TITLE_WORDS = {"회의", "보고서", "청소", "운동", "장보기", "독서", "배포", "리뷰"};
+    static final long HOT_TODO_ID = 1L;
+    static final int HOT_COMMENT_COUNT = 50;
+
+    private static final int BATCH_SIZE = 5000;
+    private static final int ID_ALLOCATION_SIZE = 50; // 엔티티 @SequenceGenerator allocationSize와 같아야 함
+
+    private BoardSeeder() {
+    }
+
+    /**
+     * JDBC 배치 INSERT로 게시글/댓글 저장
+     * - pooled 시퀀스는 받은 값을 구간의 끝으로 쓰므로 (마지막 ID + allocationSize)부터 시작
+     * @param jdbcTemplate 비어 있는 스키마에 연결된 JdbcTemplate
+     * @param todoCount 저장할 게시글 수
+     */
+    static void seed(JdbcTemplate jdbcTemplate, int todoCount) {
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<Object[]> todos = new ArrayList<>(BATCH_SIZE);
+        List<Object[]> comments = new ArrayList<>(BATCH_SIZE);
+        long commentId = 0;
+
+        for (long id = 1; id <= todoCount; id++) {
+            Timestamp createdAt = Timestamp.valueOf(base.plusSeconds(id));
+            String word = TITLE_WORDS[(int) (id % TITLE_WORDS.length)];
+            String content = word + " 관련 작업 내용입니다. 진행 상황을 정리하고 공유합니다. #" + id;
+            todos.add(new Object[]{id, word + " 할 일 " + id, content, Todo.excerptOf(content),
+                    id % 3 == 0, "작성자" + (id % 100), id % 1000, createdAt, createdAt});
+
+            int commentCount = id == HOT_TODO_ID ? HOT_COMMENT_COUNT : (int) (id % 5);
+            for (int c = 0; c < commentCount; c++) {
+                Timestamp commentedAt = Timestamp.valueOf(base.plusSeconds(id).plusNanos((c + 1) * 1_000_000L));
+                comments.add(new Object[]{++commentId, id, "댓글 " + c, "댓글작성자" + (c % 10), commentedAt, commentedAt});
+            }
+
+            if (todos.size() == BATCH_SIZE || id == todoCount) {
+                jdbcTemplate.batchUpdate("INSERT INTO todos (id, title, content, excerpt, completed, author, view_count, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", todos);
+                jdbcTemplate.batchUpdate("INSERT INTO comments (id, todo_id, content, author, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?)", comments);
+                todos.clear();
+                comments.clear();
+            }
+        }
+
+        jdbcTemplate.execute("ALTER SEQUENCE todos_seq RESTART WITH " + (todoCount + ID_ALLOCATION_SIZE));
+        jdbcTemplate.execute("ALTER SEQUENCE comments_seq RESTART WITH " + (commentId + ID_ALLOCATION_SIZE));
+
+        // 옵티마이저가 실제 행 수 기준으로 인덱스를 고르도록 통계 갱신
+        jdbcTemplate.execute("ANALYZE");
+    }
+}
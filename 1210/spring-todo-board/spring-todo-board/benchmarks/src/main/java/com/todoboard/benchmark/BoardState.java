@@ -0,0 +1,59 @@
+package com.todoboard.benchmark;
+
+import com.todoboard.TodoBoardApplication;
+import com.todoboard.search.TodoSearchIndex;
+import com.todoboard.service.CommentService;
+import com.todoboard.service.TodoService;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * ========================================
+ * 벤치마크용 애플리케이션 컨텍스트 + 데이터
+ * ========================================
+ * - 웹 서버 없이 스프링 컨텍스트만 띄우고 내장 H2에 데이터를 채움 (BoardSeeder)
+ * - todoCount마다 새 JVM(fork)에서 준비하므로 데이터 크기끼리 서로 영향 없음
+ */
+@State(Scope.Benchmark)
+public class BoardState {
+
+    @Param({"1000", "100000", "1000000"})
+    public int todoCount;
+
+    ConfigurableApplicationContext context;
+    TodoService todoService;
+    CommentService commentService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(TodoBoardApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_ON_EXIT=FALSE",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "spring.jpa.properties.hibernate.use_sql_comments=false",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO")
+                .run();
+        BoardSeeder.seed(context.getBean(JdbcTemplate.class), todoCount);
+        context.getBean(TodoSearchIndex.class).rebuild();
+
+        todoService = context.getBean(TodoService.class);
+        commentService = context.getBean(CommentService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+}
@@ -0,0 +1,90 @@
+package com.todoboard.benchmark;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * ========================================
+ * 쿼리마다 지연을 더하는 DataSource (LoadTestRunner용)
+ * ========================================
+ * - 내장 H2는 네트워크 왕복이 없어 요청 스레드가 DB를 기다리는 시간이 거의 없음
+ * - PreparedStatement 실행 전에 지정한 시간만큼 대기해 원격 DB 응답 시간을 흉내 냄
+ * - 대기는 커넥션을 잡은 상태에서 일어나므로 커넥션 풀 크기의 영향도 함께 드러남
+ */
+final class DelayedDataSource {
+
+    private DelayedDataSource() {
+    }
+
+    /**
+     * 실행마다 latencyMillis만큼 늦게 응답하는 DataSource로 감싸기
+     */
+    static DataSource wrap(DataSource dataSource, long latencyMillis) {
+        return new DelegatingDataSource(dataSource) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return delayed(super.getConnection(), latencyMillis);
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                return delayed(super.getConnection(username, password), latencyMillis);
+            }
+        };
+    }
+
+    private static Connection delayed(Connection connection, long latencyMillis) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (isIdentityMethod(method)) {
+                        return identity(proxy, method, args);
+                    }
+                    Object result = invoke(connection, method, args);
+                    if (method.getName().equals("prepareStatement") && result instanceof PreparedStatement) {
+                        return delayed((PreparedStatement) result, latencyMillis);
+                    }
+                    return result;
+                });
+    }
+
+    private static PreparedStatement delayed(PreparedStatement statement, long latencyMillis) {
+        return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class},
+                (proxy, method, args) -> {
+                    if (isIdentityMethod(method)) {
+                        return identity(proxy, method, args);
+                    }
+                    if (method.getName().startsWith("execute")) {
+                        Thread.sleep(latencyMillis);
+                    }
+                    return invoke(statement, method, args);
+                });
+    }
+
+    /**
+     * equals/hashCode는 프록시 자신 기준 (대상에 넘기면 프록시와 같지 않다고 판단됨)
+     */
+    private static boolean isIdentityMethod(Method method) {
+        return (method.getName().equals("equals") && method.getParameterCount() == 1)
+                || (method.getName().equals("hashCode") && method.getParameterCount() == 0);
+    }
+
+    private static Object identity(Object proxy, Method method, Object[] args) {
+        return method.getName().equals("equals") ? proxy == args[0] : System.identityHashCode(proxy);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.todoboard.benchmark;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * ========================================
+ * 엔드포인트별 응답 시간 기록 (HDR 히스토그램)
+ * ========================================
+ * - 클라이언트 스레드마다 하나씩 두고 측정이 끝나면 merge로 합침 (기록 시 동기화 없음)
+ * - 값 단위는 마이크로초, 출력은 밀리초
+ */
+class LatencyReport {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final Map<LoadEndpoint, Histogram> histograms = new EnumMap<>(LoadEndpoint.class);
+    private final Map<LoadEndpoint, Long> errors = new EnumMap<>(LoadEndpoint.class);
+
+    LatencyReport() {
+        for (LoadEndpoint endpoint : LoadEndpoint.values()) {
+            histograms.put(endpoint, new Histogram(SIGNIFICANT_DIGITS)); // 범위 자동 확장
+            errors.put(endpoint, 0L);
+        }
+    }
+
+    /**
+     * 응답 하나 기록
+     * @param endpoint 요청 종류
+     * @param latencyMicros 응답 시간 (마이크로초)
+     * @param success 2xx/3xx 응답 여부
+     */
+    void record(LoadEndpoint endpoint, long latencyMicros, boolean success) {
+        histograms.get(endpoint).recordValue(Math.max(1, latencyMicros));
+        if (!success) {
+            errors.merge(endpoint, 1L, Long::sum);
+        }
+    }
+
+    /**
+     * 연결 실패 등 응답이 없는 요청 기록
+     */
+    void recordFailure(LoadEndpoint endpoint) {
+        errors.merge(endpoint, 1L, Long::sum);
+    }
+
+    /**
+     * 다른 클라이언트의 기록 합치기
+     */
+    void merge(LatencyReport other) {
+        for (LoadEndpoint endpoint : LoadEndpoint.values()) {
+            histograms.get(endpoint).add(other.histograms.get(endpoint));
+            errors.merge(endpoint, other.errors.get(endpoint), Long::sum);
+        }
+    }
+
+    /**
+     * 엔드포인트별 처리량과 p50/p95/p99/p99.9 출력
+     * @param out 출력 스트림
+     * @param elapsedSeconds 측정 구간 길이 (초)
+     */
+    void print(PrintStream out, double elapsedSeconds) {
+        String format = "%-28s %10s %8s %10s %9s %9s %9s %9s %9s%n";
+        out.printf(format, "endpoint", "requests", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+
+        Histogram total = new Histogram(SIGNIFICANT_DIGITS);
+        long totalErrors = 0;
+        for (LoadEndpoint endpoint : LoadEndpoint.values()) {
+            Histogram histogram = histograms.get(endpoint);
+            printRow(out, format, endpoint.getLabel(), histogram, errors.get(endpoint), elapsedSeconds);
+            total.add(histogram);
+            totalErrors += errors.get(endpoint);
+        }
+        printRow(out, format, "TOTAL", total, totalErrors, elapsedSeconds);
+    }
+
+    /**
+     * 출력과 같은 표를 summary.txt로 저장 (실행끼리 결과표를 모으는 용도)
+     * @param directory 저장할 디렉터리
+     * @param elapsedSeconds 측정 구간 길이 (초)
+     */
+    void writeSummary(Path directory, double elapsedSeconds) throws IOException {
+        Files.createDirectories(directory);
+        try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve("summary.txt")), false,
+                StandardCharsets.UTF_8)) {
+            print(out, elapsedSeconds);
+        }
+    }
+
+    /**
+     * 엔드포인트별 전체 분포를 .hgrm 파일로 저장 (릴리스/설정 간 비교용)
+     * @param directory 저장할 디렉터리
+     */
+    void writeHistograms(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (LoadEndpoint endpoint : LoadEndpoint.values()) {
+            Path file = directory.resolve(endpoint.name().toLowerCase(Locale.ROOT) + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, StandardCharsets.UTF_8)) {
+                histograms.get(endpoint).outputPercentileDistribution(out, MICROS_PER_MILLI);
+            }
+        }
+    }
+
+    private static void printRow(PrintStream out, String format, String label, Histogram histogram,
+                                 long errorCount, double elapsedSeconds) {
+        out.printf(Locale.ROOT, format, label,
+                histogram.getTotalCount(),
+                errorCount,
+                String.format(Locale.ROOT, "%.1f", histogram.getTotalCount() / elapsedSeconds),
+                millis(histogram, 50.0),
+                millis(histogram, 95.0),
+                millis(histogram, 99.0),
+                millis(histogram, 99.9),
+                String.format(Locale.ROOT, "%.2f", histogram.getMaxValue() / MICROS_PER_MILLI));
+    }
+
+    private static String millis(Histogram histogram, double percentile) {
+        return String.format(Locale.ROOT, "%.2f", histogram.getValueAtPercentile(percentile) / MICROS_PER_MILLI);
+    }
+}
@@ -0,0 +1,118 @@
+package com.todoboard.benchmark;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/**
+ * ========================================
+ * 부하 테스트 요청 종류와 비율
+ * ========================================
+ * - weight: 전체 요청 중 비중 (합계 100)
+ * - 읽기 위주 게시판 사용 패턴 (목록/상세 조회가 대부분, 쓰기는 10%)
+ * - 게시글 ID와 검색어는 클라이언트별 Random으로 고르므로 seed가 같으면 같은 요청 순서
+ */
+enum LoadEndpoint {
+
+    LIST("GET /todos", 30) {
+        @Override
+        HttpRequest.Builder request(URI baseUri, Random random, int todoCount) {
+            return get(baseUri, "/todos?page=" + random.nextInt(5));
+        }
+    },
+
+    SEARCH("GET /todos?keyword", 20) {
+        @Override
+        HttpRequest.Builder request(URI baseUri, Random random, int todoCount) {
+            String word = BoardSeeder.TITLE_WORDS[random.nextInt(BoardSeeder.TITLE_WORDS.length)];
+            return get(baseUri, "/todos?keyword=" + encode(word));
+        }
+    },
+
+    FILTER("GET /todos?completed", 10) {
+        @Override
+        HttpRequest.Builder request(URI baseUri, Random random, int todoCount) {
+            return get(baseUri, "/todos?completed=" + random.nextBoolean() + "&page=" + random.nextInt(5));
+        }
+    },
+
+    DETAIL("GET /todos/{id}", 30) {
+        @Override
+        HttpRequest.Builder request(URI baseUri, Random random, int todoCount) {
+            return get(baseUri, "/todos/" + randomTodoId(random, todoCount));
+        }
+    },
+
+    COMMENT("POST /todos/{id}/comments", 5) {
+        @Override
+        HttpRequest.Builder request(URI baseUri, Random random, int todoCount) {
+            String form = "content=" + encode("부하 테스트 댓글") + "&author=" + encode("부하테스트" + random.nextInt(10));
+            return post(baseUri, "/todos/" + randomTodoId(random, todoCount) + "/comments", form);
+        }
+    },
+
+    TOGGLE("POST /todos/{id}/toggle", 5) {
+        @Override
+        HttpRequest.Builder request(URI baseUri, Random random, int todoCount) {
+            return post(baseUri, "/todos/" + randomTodoId(random, todoCount) + "/toggle", "");
+        }
+    };
+
+    private static final LoadEndpoint[] VALUES = values();
+    private static final int TOTAL_WEIGHT = 100;
+
+    private final String label;
+    private final int weight;
+
+    LoadEndpoint(String label, int weight) {
+        this.label = label;
+        this.weight = weight;
+    }
+
+    String getLabel() {
+        return label;
+    }
+
+    /**
+     * 이 엔드포인트로 보낼 요청 생성
+     * @param baseUri 애플리케이션 주소 (http://localhost:포트)
+     * @param random 클라이언트별 난수 생성기
+     * @param todoCount 저장된 게시글 수 (ID 범위)
+     * @return 요청 빌더
+     */
+    abstract HttpRequest.Builder request(URI baseUri, Random random, int todoCount);
+
+    /**
+     * 비중에 따라 다음 요청 종류 선택
+     */
+    static LoadEndpoint pick(Random random) {
+        int value = random.nextInt(TOTAL_WEIGHT);
+        for (LoadEndpoint endpoint : VALUES) {
+            value -= endpoint.weight;
+            if (value < 0) {
+                return endpoint;
+            }
+        }
+        return VALUES[VALUES.length - 1];
+    }
+
+    private static long randomTodoId(Random random, int todoCount) {
+        return 1 + random.nextInt(todoCount);
+    }
+
+    private static HttpRequest.Builder get(URI baseUri, String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path)).GET();
+    }
+
+    private static HttpRequest.Builder post(URI baseUri, String path, String form) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form));
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
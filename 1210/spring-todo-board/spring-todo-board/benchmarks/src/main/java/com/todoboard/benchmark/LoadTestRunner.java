@@ -0,0 +1,223 @@
+package com.todoboard.benchmark;
+
+import com.todoboard.TodoBoardApplication;
+import com.todoboard.search.TodoSearchIndex;
+import com.todoboard.server.VirtualThreads;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ========================================
+ * HTTP 부하 테스트 실행 진입점
+ * ========================================
+ * - 임의 포트로 애플리케이션을 띄우고 내장 H2에 데이터를 채운 뒤 동시 클라이언트로 요청
+ * - 요청 비율은 LoadEndpoint 참고 (목록/검색/필터/상세/댓글 작성/완료 토글)
+ * - 각 클라이언트는 응답을 받은 뒤 다음 요청을 보냄 (closed loop, 대기 시간 없음)
+ * - 워밍업 구간은 기록하지 않고, 측정 구간의 처리량과 응답 시간 분포만 보고
+ * - 옵션은 이름=값 형식 (예: clients=64 durationSeconds=120), 기본값은 DEFAULTS 참고
+ * - threads=virtual이면 virtual-threads 프로필로 실행 (요청 처리를 가상 스레드로, Java 21 이상)
+ * - dbLatencyMillis로 쿼리마다 지연을 더해 원격 DB처럼 요청이 DB를 기다리게 할 수 있음
+ */
+public class LoadTestRunner {
+
+    private static final Map<String, String> DEFAULTS = Map.ofEntries(
+            Map.entry("todoCount", "100000"),
+            Map.entry("clients", "32"),
+            Map.entry("warmupSeconds", "10"),
+            Map.entry("durationSeconds", "60"),
+            Map.entry("seed", "42"),
+            Map.entry("threads", "platform"),        // platform | virtual (요청 처리 스레드 방식)
+            Map.entry("tomcatThreads", "200"),       // 플랫폼 스레드 모드의 요청 처리 스레드 수
+            Map.entry("maxConnections", "20000"),    // Tomcat 최대 연결 수 (두 모드 공통)
+            Map.entry("poolSize", "10"),             // DB 커넥션 풀 크기 (요청 동시성과 별개)
+            Map.entry("dbLatencyMillis", "0"),       // 쿼리마다 더할 지연 (0이면 없음)
+            Map.entry("output", "target/load-test"));
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        int todoCount = Integer.parseInt(options.get("todoCount"));
+        int clients = Integer.parseInt(options.get("clients"));
+        long warmupNanos = TimeUnit.SECONDS.toNanos(Long.parseLong(options.get("warmupSeconds")));
+        long durationNanos = TimeUnit.SECONDS.toNanos(Long.parseLong(options.get("durationSeconds")));
+        long seed = Long.parseLong(options.get("seed"));
+        Path output = Paths.get(options.get("output"));
+        boolean virtualThreads = parseThreads(options.get("threads"));
+        long dbLatencyMillis = Long.parseLong(options.get("dbLatencyMillis"));
+
+        // 프로필 설정 파일보다 우선하도록 기본 속성이 아닌 명령행 인자로 전달
+        List<String> appArgs = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--management.server.port=0",
+                "--todoboard.reactive-api.enabled=false", // 부하 테스트 대상은 MVC 화면
+                "--server.tomcat.threads.max=" + options.get("tomcatThreads"),
+                "--server.tomcat.max-connections=" + options.get("maxConnections"),
+                "--spring.datasource.hikari.maximum-pool-size=" + options.get("poolSize"),
+                "--spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_ON_EXIT=FALSE",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--spring.jpa.properties.hibernate.use_sql_comments=false",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO"));
+        if (virtualThreads) {
+            appArgs.add("--spring.profiles.active=virtual-threads");
+        }
+
+        SpringApplicationBuilder application = new SpringApplicationBuilder(TodoBoardApplication.class);
+        if (dbLatencyMillis > 0) {
+            application.initializers((ApplicationContextInitializer<ConfigurableApplicationContext>) ctx ->
+                    ctx.getBeanFactory().addBeanPostProcessor(new BeanPostProcessor() {
+                        @Override
+                        public Object postProcessAfterInitialization(Object bean, String beanName) {
+                            return bean instanceof DataSource
+                                    ? DelayedDataSource.wrap((DataSource) bean, dbLatencyMillis)
+                                    : bean;
+                        }
+                    }));
+        }
+        ConfigurableApplicationContext context = application.run(appArgs.toArray(new String[0]));
+        try {
+            BoardSeeder.seed(context.getBean(JdbcTemplate.class), todoCount);
+            context.getBean(TodoSearchIndex.class).rebuild();
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI baseUri = URI.create("http://localhost:" + port);
+            System.out.printf("todoCount=%d clients=%d warmup=%ds duration=%ds seed=%d%n", todoCount, clients,
+                    TimeUnit.NANOSECONDS.toSeconds(warmupNanos), TimeUnit.NANOSECONDS.toSeconds(durationNanos), seed);
+            System.out.printf("threads=%s tomcatThreads=%s maxConnections=%s poolSize=%s dbLatencyMillis=%d%n",
+                    virtualThreads ? "virtual" : "platform",
+                    virtualThreads ? "-" : options.get("tomcatThreads"),
+                    options.get("maxConnections"), options.get("poolSize"), dbLatencyMillis);
+
+            LatencyReport report = run(baseUri, todoCount, clients, warmupNanos, durationNanos, seed);
+            double elapsedSeconds = TimeUnit.NANOSECONDS.toMillis(durationNanos) / 1000.0;
+            report.print(System.out, elapsedSeconds);
+            report.writeSummary(output, elapsedSeconds);
+            report.writeHistograms(output);
+            System.out.println("histograms: " + output.toAbsolutePath());
+        } finally {
+            context.close();
+        }
+    }
+
+    /**
+     * 클라이언트 스레드를 띄워 워밍업 + 측정 구간 동안 요청
+     * @return 모든 클라이언트의 측정 구간 기록을 합친 결과
+     */
+    private static LatencyReport run(URI baseUri, int todoCount, int clients,
+                                     long warmupNanos, long durationNanos, long seed) throws Exception {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .followRedirects(HttpClient.Redirect.NEVER) // 작성/토글 후 리다이렉트는 따라가지 않음
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        long measureStart = System.nanoTime() + warmupNanos;
+        long measureEnd = measureStart + durationNanos;
+
+        // 클라이언트가 수천 개면 플랫폼 스레드로는 부하 생성 쪽이 먼저 한계에 닿으므로 가능하면 가상 스레드 사용
+        ExecutorService executor = VirtualThreads.isSupported()
+                ? VirtualThreads.newThreadPerTaskExecutor("load-client-")
+                : Executors.newFixedThreadPool(clients);
+        try {
+            List<Future<LatencyReport>> futures = new ArrayList<>(clients);
+            for (int i = 0; i < clients; i++) {
+                Random random = new Random(seed + i);
+                futures.add(executor.submit(client(httpClient, baseUri, todoCount, random, measureStart, measureEnd)));
+            }
+
+            LatencyReport merged = new LatencyReport();
+            for (Future<LatencyReport> future : futures) {
+                merged.merge(future.get());
+            }
+            return merged;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 클라이언트 하나의 요청 루프
+     */
+    private static Callable<LatencyReport> client(HttpClient httpClient, URI baseUri, int todoCount, Random random,
+                                                  long measureStart, long measureEnd) {
+        return () -> {
+            LatencyReport report = new LatencyReport();
+            long now;
+            while ((now = System.nanoTime()) < measureEnd) {
+                LoadEndpoint endpoint = LoadEndpoint.pick(random);
+                HttpRequest request = endpoint.request(baseUri, random, todoCount)
+                        .timeout(Duration.ofSeconds(30))
+                        .build();
+                boolean measured = now >= measureStart;
+                try {
+                    long start = System.nanoTime();
+                    HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                    long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+                    if (measured) {
+                        report.record(endpoint, latencyMicros, response.statusCode() < 400);
+                    }
+                } catch (IOException e) {
+                    if (measured) {
+                        report.recordFailure(endpoint);
+                    }
+                }
+            }
+            return report;
+        };
+    }
+
+    private static boolean parseThreads(String threads) {
+        switch (threads) {
+            case "platform":
+                return false;
+            case "virtual":
+                if (!VirtualThreads.isSupported()) {
+                    throw new IllegalArgumentException("threads=virtual은 Java 21 이상에서 실행해야 합니다. 현재: "
+                            + Runtime.version());
+                }
+                return true;
+            default:
+                throw new IllegalArgumentException("threads는 platform 또는 virtual 이어야 합니다: " + threads);
+        }
+    }
+
+    /**
+     * 이름=값 형식의 명령행 옵션 해석 (없는 항목은 기본값)
+     */
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>(DEFAULTS);
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator < 0 || !DEFAULTS.containsKey(arg.substring(0, separator))) {
+                throw new IllegalArgumentException("알 수 없는 옵션: " + arg + " (사용 가능: " + DEFAULTS.keySet() + ")");
+            }
+            options.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+}
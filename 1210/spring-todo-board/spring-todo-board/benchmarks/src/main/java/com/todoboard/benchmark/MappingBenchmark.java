@@ -0,0 +1,79 @@
+package com.todoboard.benchmark;
+
+import com.todoboard.dto.CommentResponse;
+import com.todoboard.dto.TodoResponse;
+import com.todoboard.entity.BaseEntity;
+import com.todoboard.entity.Comment;
+import com.todoboard.entity.Todo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ========================================
+ * Entity → DTO 변환 벤치마크
+ * ========================================
+ * - 목록/상세 화면에서 행마다 호출되는 TodoResponse.from, CommentResponse.from 측정
+ * - DB 없이 메모리의 엔티티만 사용
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MappingBenchmark {
+
+    private Todo todo;
+    private Comment comment;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        todo = Todo.builder()
+                .id(1L)
+                .title("주간 회의 준비")
+                .content("회의 자료를 정리하고 참석자에게 일정을 공유한다.")
+                .author("홍길동")
+                .viewCount(42L)
+                .build();
+        comment = Comment.builder()
+                .id(1L)
+                .content("자료는 공유 폴더에 올려 두었습니다.")
+                .author("김철수")
+                .build();
+        todo.addComment(comment);
+        setAuditDates(todo, now);
+        setAuditDates(comment, now);
+    }
+
+    @Benchmark
+    public TodoResponse todoResponseFrom() {
+        return TodoResponse.from(todo, 3);
+    }
+
+    @Benchmark
+    public CommentResponse commentResponseFrom() {
+        return CommentResponse.from(comment);
+    }
+
+    /**
+     * JPA Auditing이 채우는 생성/수정 시각 설정 (setter가 없으므로 리플렉션 사용)
+     */
+    static void setAuditDates(BaseEntity entity, LocalDateTime dateTime) {
+        for (String name : new String[]{"createdAt", "updatedAt"}) {
+            Field field = ReflectionUtils.findField(BaseEntity.class, name);
+            ReflectionUtils.makeAccessible(field);
+            ReflectionUtils.setField(field, entity, dateTime);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.todoboard.benchmark;
+
+import com.todoboard.dto.CommentOrder;
+import com.todoboard.dto.CommentSliceResponse;
+import com.todoboard.dto.TodoResponse;
+import com.todoboard.service.CommentService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ========================================
+ * 서비스 계층 벤치마크 (목록, 검색, 댓글 조회)
+ * ========================================
+ * - 목록 화면과 같은 정렬/페이지 크기로 첫 페이지 조회
+ * - 댓글은 상세 화면과 같은 첫 댓글 목록 (작성순, 기본 크기)
+ * - 100만 건 데이터와 검색 색인을 위해 fork JVM 힙을 넉넉히 지정
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx3g"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ServiceBenchmark {
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 10,
+            Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id")));
+
+    private static final String KEYWORD = BoardSeeder.TITLE_WORDS[0];
+
+    @Benchmark
+    public Page<TodoResponse> getAllTodos(BoardState board) {
+        return board.todoService.getAllTodos(FIRST_PAGE);
+    }
+
+    @Benchmark
+    public Page<TodoResponse> searchTodos(BoardState board) {
+        return board.todoService.searchTodos(KEYWORD, FIRST_PAGE);
+    }
+
+    @Benchmark
+    public CommentSliceResponse getComments(BoardState board) {
+        return board.commentService.getComments(BoardSeeder.HOT_TODO_ID, CommentOrder.OLDEST, null,
+                CommentService.DEFAULT_PAGE_SIZE);
+    }
+}
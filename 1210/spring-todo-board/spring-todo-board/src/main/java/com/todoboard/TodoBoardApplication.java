@@ -2,7 +2,15 @@ package com.todoboard;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.auditing.DateTimeProvider;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
 
 /**
  * ========================================
@@ -10,9 +18,13 @@ import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
  * ========================================
  * - 스프링 부트 애플리케이션의 진입점
  * - JPA Auditing 기능 활성화 (생성일, 수정일 자동 관리)
+ * - 스케줄링 활성화 (조회수 주기적 반영)
+ * - R2DBC 자동 설정 제외 (ConnectionFactory 빈이 생기면 JDBC DataSource 자동 설정이 빠지므로
+ *   반응형 API의 R2DBC 풀은 ReactiveApiConfig가 직접 관리)
  */
-@SpringBootApplication
-@EnableJpaAuditing // JPA Auditing 활성화
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)
+@EnableJpaAuditing(dateTimeProviderRef = "auditingDateTimeProvider") // JPA Auditing 활성화
+@EnableScheduling // 스케줄링 활성화
 public class TodoBoardApplication {
 
     /**
@@ -22,4 +34,14 @@ public class TodoBoardApplication {
     public static void main(String[] args) {
         SpringApplication.run(TodoBoardApplication.class, args);
     }
+
+    /**
+     * 생성일/수정일 시각 제공자
+     * - DB TIMESTAMP 정밀도(마이크로초)로 잘라서 저장
+     * - 저장 직후 엔티티 값과 DB 값이 같아야 (createdAt, id) 커서 비교가 정확함
+     */
+    @Bean
+    public DateTimeProvider auditingDateTimeProvider() {
+        return () -> Optional.of(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+    }
 }
@@ -0,0 +1,115 @@
+package com.todoboard.cache;
+
+import com.todoboard.transaction.AfterCommit;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ========================================
+ * 게시판 버전 스탬프
+ * ========================================
+ * - 게시판 전체 버전: 게시글/댓글이 하나라도 바뀌면 증가 (목록 화면 캐시 키)
+ * - 게시글별 버전: 해당 게시글 또는 그 댓글이 바뀌면 증가 (상세 화면 캐시 키)
+ * - 트랜잭션 커밋 후 증가시키므로, 버전을 먼저 읽고 데이터를 읽은 요청은
+ *   이전 데이터를 새 버전 키로 저장할 수 없음
+ * - 메모리에만 있으므로 재시작하면 0부터 다시 시작 (캐시도 함께 비워짐)
+ * - 외부로 내보내는 값(ETag)은 재시작 전 버전과 겹치지 않도록 시작 시각(epoch)을 함께 사용
+ * - 버전을 올린 시각도 함께 기록 (캐시를 채울 때 그 시각 이후까지 따라잡은 복제본에서 읽도록, ReadConsistency.visibleAfter)
+ *   시각을 먼저 기록하고 버전을 올리므로, 버전을 먼저 읽은 요청은 그 버전 이상의 시각을 읽음
+ */
+@Component
+public class BoardVersions {
+
+    private final long epoch = System.currentTimeMillis();
+    private final AtomicLong boardVersion = new AtomicLong();
+    private final ConcurrentHashMap<Long, Long> todoVersions = new ConcurrentHashMap<>();
+    private volatile long boardChangedAt = epoch;
+    private final ConcurrentHashMap<Long, Long> todoChangedAt = new ConcurrentHashMap<>();
+
+    /**
+     * 게시판 전체 버전
+     */
+    public long board() {
+        return boardVersion.get();
+    }
+
+    /**
+     * 버전 태그 (재시작해도 겹치지 않는 문자열, ETag 등에 사용)
+     * @param version board() 또는 todo()로 읽은 버전
+     */
+    public String tag(long version) {
+        return Long.toString(epoch, 36) + "-" + Long.toString(version, 36);
+    }
+
+    /**
+     * 게시글 버전 (변경된 적 없으면 0)
+     * @param todoId 게시글 ID
+     */
+    public long todo(Long todoId) {
+        return todoVersions.getOrDefault(todoId, 0L);
+    }
+
+    /**
+     * 게시판 전체 버전을 마지막으로 올린 시각 (epoch 밀리초, 올린 적 없으면 시작 시각)
+     * - board()로 버전을 읽은 뒤 호출해야 그 버전의 데이터가 커밋된 이후 시각
+     */
+    public long boardChangedAt() {
+        return boardChangedAt;
+    }
+
+    /**
+     * 게시글 버전을 마지막으로 올린 시각 (epoch 밀리초, 올린 적 없으면 시작 시각)
+     * - todo()로 버전을 읽은 뒤 호출
+     * @param todoId 게시글 ID
+     */
+    public long todoChangedAt(Long todoId) {
+        return todoChangedAt.getOrDefault(todoId, epoch);
+    }
+
+    /**
+     * 트랜잭션 커밋 후 게시판 전체와 게시글 버전 증가
+     * @param todoId 변경된 게시글 ID (새 게시글 등 게시글 버전이 필요 없으면 null)
+     */
+    public void bumpAfterCommit(Long todoId) {
+        AfterCommit.run(() -> bump(todoId));
+    }
+
+    /**
+     * 트랜잭션 커밋 후 게시판 전체 버전은 한 번, 게시글 버전은 각각 증가 (일괄 처리 한 묶음)
+     * @param todoIds 변경된 게시글 ID 목록
+     */
+    public void bumpAllAfterCommit(Collection<Long> todoIds) {
+        AfterCommit.run(() -> bumpAll(todoIds));
+    }
+
+    /**
+     * 즉시 게시판 전체 버전은 한 번, 게시글 버전은 각각 증가
+     * @param todoIds 변경된 게시글 ID 목록
+     */
+    public void bumpAll(Collection<Long> todoIds) {
+        long now = System.currentTimeMillis();
+        for (Long todoId : todoIds) {
+            todoChangedAt.put(todoId, now);
+            todoVersions.merge(todoId, 1L, Long::sum);
+        }
+        boardChangedAt = now;
+        boardVersion.incrementAndGet();
+    }
+
+    /**
+     * 즉시 게시판 전체와 게시글 버전 증가
+     * @param todoId 변경된 게시글 ID (없으면 null)
+     */
+    public void bump(Long todoId) {
+        long now = System.currentTimeMillis();
+        if (todoId != null) {
+            todoChangedAt.put(todoId, now);
+            todoVersions.merge(todoId, 1L, Long::sum);
+        }
+        boardChangedAt = now;
+        boardVersion.incrementAndGet();
+    }
+}
@@ -0,0 +1,113 @@
+package com.todoboard.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.todoboard.datasource.ReadConsistency;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.WebContext;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.function.Supplier;
+
+/**
+ * ========================================
+ * 화면 조각 캐시 (렌더링된 HTML)
+ * ========================================
+ * - 목록 결과(게시글 카드 + 페이징), 상세 댓글 영역 등 템플릿 조각의 렌더링 결과를 보관
+ * - 키에 BoardVersions 버전을 포함하므로 쓰기가 일어나면 새 키로 자연스럽게 교체됨
+ * - 적중하면 모델 계산(쿼리)과 템플릿 렌더링을 모두 건너뜀
+ * - 캐시에 없으면 키의 버전이 바뀐 시각 이후까지 따라잡은 복제본에서 읽음 (없으면 주 DB)
+ * - 조회수처럼 버전과 무관하게 바뀌는 값은 expireAfterWrite 시간만큼 늦게 반영
+ * - 비활성화하면 캐시 없이 매번 렌더링 (개발 환경, 템플릿 수정 즉시 반영)
+ */
+@Component
+public class FragmentCache implements MeterBinder {
+
+    private static final String KEY_SEPARATOR = "\u001F"; // 검색어 등에 나오지 않는 구분 문자
+
+    private final ITemplateEngine templateEngine;
+    private final boolean enabled;
+    private final Cache<String, String> cache;
+
+    public FragmentCache(ITemplateEngine templateEngine,
+                         @Value("${todoboard.fragment-cache.enabled:false}") boolean enabled,
+                         @Value("${todoboard.fragment-cache.maximum-size:1000}") long maximumSize,
+                         @Value("${todoboard.fragment-cache.expire-after-write-seconds:30}") long expireAfterWriteSeconds) {
+        this.templateEngine = templateEngine;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .recordStats() // 적중/실패/제거 통계 기록
+                .build();
+    }
+
+    /**
+     * 캐시 키 생성
+     * @param parts 조각 이름, 버전, 요청 파라미터 등 (null 허용)
+     * @return 캐시 키
+     */
+    public static String key(Object... parts) {
+        StringJoiner joiner = new StringJoiner(KEY_SEPARATOR);
+        for (Object part : parts) {
+            joiner.add(String.valueOf(part));
+        }
+        return joiner.toString();
+    }
+
+    /**
+     * 캐시된 조각 반환 (없으면 모델을 계산하여 렌더링 후 저장)
+     * @param key 캐시 키 (버전 포함)
+     * @param changedAt 키의 버전이 바뀐 시각 (BoardVersions.boardChangedAt/todoChangedAt, 버전을 읽은 뒤 조회)
+     * @param template 조각 템플릿 이름 (예: todos/list-results)
+     * @param model 조각 렌더링에 필요한 모델 (캐시에 없을 때만 호출)
+     * @param request 현재 요청 (링크 표현식 처리용)
+     * @param response 현재 응답
+     * @return 렌더링된 HTML
+     */
+    public String render(String key, long changedAt, String template, Supplier<Map<String, Object>> model,
+                         HttpServletRequest request, HttpServletResponse response) {
+        if (!enabled) {
+            return process(template, model.get(), request, response);
+        }
+        return cache.get(key, k -> process(template, ReadConsistency.visibleAfter(changedAt, model), request, response));
+    }
+
+    /**
+     * 적중/실패/제거 통계
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * 현재 저장된 항목 수 (근사값)
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * 캐시 통계를 메트릭으로 등록 (MeterBinder 빈은 Actuator가 자동으로 호출)
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "fragment");
+    }
+
+    private String process(String template, Map<String, Object> model,
+                           HttpServletRequest request, HttpServletResponse response) {
+        WebContext context = new WebContext(request, response, request.getServletContext(), request.getLocale(), model);
+        return templateEngine.process(template, context);
+    }
+}
@@ -0,0 +1,100 @@
+package com.todoboard.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.todoboard.entity.Comment;
+import com.todoboard.entity.Todo;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * ========================================
+ * 하이버네이트 2차 캐시 리전 설정 (JCache + Caffeine)
+ * ========================================
+ * - 리전마다 최대 항목 수와 저장 후 만료 시간을 지정하여 JCache CacheManager에 미리 생성
+ *   (설정에 없는 리전은 시작 시 실패: hibernate.javax.cache.missing_cache_strategy=fail)
+ *   - todo, comment: 엔티티
+ *   - todo.comments: 게시글별 댓글 ID 목록
+ *   - todo.first-pages: 목록 앞쪽 페이지 쿼리 결과 (TodoFilterRepositoryImpl)
+ *   - 하이버네이트 기본 쿼리 결과/테이블 변경 시각 리전 (변경 시각은 만료/제거되면 안 되므로 제한 없음)
+ * - 엔티티/컬렉션 리전별 적중/실패/저장 수는 하이버네이트 통계 메트릭 (hibernate.second.level.cache.*{region}),
+ *   쿼리 캐시는 hibernate.cache.query.*, 리전별 JCache 통계는 JMX(javax.cache:type=CacheStatistics)
+ * - 게시글 수정/토글, 댓글 수정은 변경 감지로 처리하므로 하이버네이트가 바뀐 항목만 갱신
+ * - JPQL UPDATE/DELETE 문(일괄 완료, 삭제)은 하이버네이트가 대상 엔티티/컬렉션 리전 전체를 비움
+ *   (바뀐 행만 골라 지우지 않음, 여러 행을 문장 하나로 바꾸는 대신 리전이 다시 채워지는 비용을 받아들인 의도한 동작)
+ * - 하이버네이트를 거치지 않는 변경은 SecondLevelCacheSync가 캐시를 맞춤
+ */
+@Configuration
+public class SecondLevelCacheConfig implements DisposableBean {
+
+    private final CacheManager cacheManager;
+
+    public SecondLevelCacheConfig(@Value("${todoboard.cache.second-level.todo.maximum-size}") long todoMaximumSize,
+                                  @Value("${todoboard.cache.second-level.comment.maximum-size}") long commentMaximumSize,
+                                  @Value("${todoboard.cache.second-level.todo-comments.maximum-size}") long todoCommentsMaximumSize,
+                                  @Value("${todoboard.cache.second-level.expire-after-write-seconds}") long expireAfterWriteSeconds,
+                                  @Value("${todoboard.cache.second-level.first-pages.maximum-size}") long firstPagesMaximumSize,
+                                  @Value("${todoboard.cache.second-level.first-pages.expire-after-write-seconds}") long firstPagesExpireSeconds) {
+        // JCache 구현이 여러 개 있어도 Caffeine을 사용 (리전별 최대 항목 수 지정)
+        // 기본 CacheManager는 JVM 전체에서 하나이므로 컨텍스트마다 고유 URI로 따로 만듦
+        // (테스트 컨텍스트 캐시, DevTools 재시작처럼 컨텍스트가 둘 이상이면 같은 이름의 리전을 다시 만들 수 없음)
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        this.cacheManager = provider.getCacheManager(
+                URI.create("todoboard-second-level-" + UUID.randomUUID()), provider.getDefaultClassLoader());
+
+        createRegion(Todo.CACHE_REGION, todoMaximumSize, expireAfterWriteSeconds);
+        createRegion(Comment.CACHE_REGION, commentMaximumSize, expireAfterWriteSeconds);
+        createRegion(Todo.COMMENTS_CACHE_REGION, todoCommentsMaximumSize, expireAfterWriteSeconds);
+        createRegion(Todo.FIRST_PAGES_CACHE_REGION, firstPagesMaximumSize, firstPagesExpireSeconds);
+        createRegion(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                firstPagesMaximumSize, firstPagesExpireSeconds);
+        createRegion(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, 0, 0);
+    }
+
+    /**
+     * 하이버네이트가 위에서 만든 CacheManager의 리전을 사용하도록 지정
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheManagerCustomizer() {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+    }
+
+    /**
+     * 컨텍스트 종료 시 CacheManager 닫기 (공급자 목록에서도 빠짐, 하이버네이트가 먼저 닫았으면 아무것도 하지 않음)
+     */
+    @Override
+    public void destroy() {
+        cacheManager.close();
+    }
+
+    /**
+     * 리전 생성
+     * @param maximumSize 최대 항목 수 (0이면 제한 없음)
+     * @param expireAfterWriteSeconds 저장 후 만료 시간 (0이면 만료 없음)
+     */
+    private void createRegion(String name, long maximumSize, long expireAfterWriteSeconds) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStoreByValue(false); // 하이버네이트가 분해해서 넣은 값을 그대로 보관 (복사하지 않음)
+        configuration.setStatisticsEnabled(true);
+        if (maximumSize > 0) {
+            configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        }
+        if (expireAfterWriteSeconds > 0) {
+            configuration.setExpireAfterWrite(OptionalLong.of(Duration.ofSeconds(expireAfterWriteSeconds).toNanos()));
+        }
+        cacheManager.createCache(name, configuration);
+    }
+}
@@ -0,0 +1,56 @@
+package com.todoboard.cache;
+
+import com.todoboard.entity.Todo;
+import com.todoboard.transaction.AfterCommit;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.Collection;
+
+/**
+ * ========================================
+ * 2차 캐시 동기화 (하이버네이트를 거치지 않는 변경)
+ * ========================================
+ * - 하이버네이트가 직접 하는 저장/삭제와 JPQL UPDATE/DELETE 문은 하이버네이트가 캐시를 무효화함
+ * - 아래 변경은 하이버네이트가 모르므로 여기서 맞춤
+ *   1. 조회수 반영 (JDBC 배치 UPDATE): 해당 게시글 항목 제거
+ *   2. 댓글 삭제: 게시글의 댓글 컬렉션 항목 제거 (컬렉션을 읽지 않고 삭제하므로 하이버네이트가 갱신하지 않음)
+ * - 목록 앞쪽 페이지 쿼리 결과 리전은 비우지 않음 (목록 조회 결과에는 조회수가 없으므로 조회수 반영과 무관)
+ * - 커밋 전에도 바로 제거하여 같은 트랜잭션의 이후 조회가 이전 항목을 읽지 않게 함
+ */
+@Component
+public class SecondLevelCacheSync {
+
+    // 컬렉션 캐시는 리전 이름이 아니라 역할(엔티티 클래스 이름.필드 이름)로 제거
+    private static final String COMMENTS_ROLE = Todo.class.getName() + ".comments";
+
+    private final SessionFactory sessionFactory;
+
+    public SecondLevelCacheSync(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    /**
+     * 게시글의 댓글 컬렉션 항목을 지금과 커밋 후에 제거
+     * @param todoId 게시글 ID
+     */
+    public void evictCommentsOfTodoAfterCommit(Long todoId) {
+        cache().evictCollectionData(COMMENTS_ROLE, todoId);
+        AfterCommit.run(() -> cache().evictCollectionData(COMMENTS_ROLE, todoId));
+    }
+
+    /**
+     * 여러 게시글 항목 즉시 제거 (이미 커밋된 조회수 반영, 목록 쿼리 결과에는 조회수가 없으므로 그대로)
+     * @param todoIds 게시글 ID 목록
+     */
+    public void evictTodos(Collection<Long> todoIds) {
+        Cache cache = cache();
+        todoIds.forEach(todoId -> cache.evictEntityData(Todo.class, todoId));
+    }
+
+    private Cache cache() {
+        return sessionFactory.getCache();
+    }
+}
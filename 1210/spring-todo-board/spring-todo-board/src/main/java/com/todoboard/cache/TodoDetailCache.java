@@ -0,0 +1,113 @@
+package com.todoboard.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.todoboard.datasource.ReadConsistency;
+import com.todoboard.dto.TodoDetailResponse;
+import com.todoboard.transaction.AfterCommit;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * ========================================
+ * To-Do 상세 캐시 (Read-Through)
+ * ========================================
+ * - 게시글 ID별 상세 화면 데이터(게시글, 댓글 제외)를 메모리에 보관
+ * - 최대 개수를 넘으면 사용 빈도가 낮은 항목부터 제거
+ * - 게시글 변경 트랜잭션이 커밋된 뒤 해당 게시글 항목만 무효화
+ * - 무효화한 시각을 게시글별로 기록하고, 다시 채울 때는 그 시각 이후까지 따라잡은 복제본에서 읽음
+ * - 적중률 등 통계는 cache.* 메트릭(cache=todoDetail)으로도 노출
+ */
+@Component
+public class TodoDetailCache implements MeterBinder {
+
+    private final Cache<Long, TodoDetailResponse> cache;
+    private final long createdAt = System.currentTimeMillis();
+    private final ConcurrentHashMap<Long, Long> evictedAt = new ConcurrentHashMap<>();
+
+    public TodoDetailCache(@Value("${todoboard.cache.todo-detail.maximum-size:10000}") long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats() // 적중/실패/제거 통계 기록
+                .build();
+    }
+
+    /**
+     * 캐시 조회 (없으면 loader로 읽어서 저장)
+     * - 같은 게시글을 동시에 조회해도 loader는 한 번만 실행
+     * - loader는 마지막 무효화 이후까지 따라잡은 복제본에서 읽음 (복제 지연된 값을 캐시하지 않도록, 없으면 주 DB)
+     * @param todoId 게시글 ID
+     * @param loader DB 조회 함수
+     * @return 상세 데이터
+     */
+    public TodoDetailResponse get(Long todoId, Function<Long, TodoDetailResponse> loader) {
+        return cache.get(todoId, id -> ReadConsistency.visibleAfter(
+                evictedAt.getOrDefault(id, createdAt), () -> loader.apply(id)));
+    }
+
+    /**
+     * 트랜잭션 커밋 후 무효화
+     * - 커밋 전에 무효화하면 그 사이 다른 요청이 이전 데이터를 다시 캐시할 수 있음
+     * @param todoId 게시글 ID
+     */
+    public void evictAfterCommit(Long todoId) {
+        AfterCommit.run(() -> evict(todoId));
+    }
+
+    /**
+     * 트랜잭션 커밋 후 여러 게시글 무효화 (일괄 처리 한 묶음에 한 번)
+     * @param todoIds 게시글 ID 목록
+     */
+    public void evictAllAfterCommit(Collection<Long> todoIds) {
+        AfterCommit.run(() -> evictAll(todoIds));
+    }
+
+    /**
+     * 즉시 무효화
+     * @param todoId 게시글 ID
+     */
+    public void evict(Long todoId) {
+        evictedAt.put(todoId, System.currentTimeMillis()); // 무효화 후 채우는 요청이 이 시각을 읽도록 먼저 기록
+        cache.invalidate(todoId);
+    }
+
+    /**
+     * 여러 게시글 즉시 무효화
+     * @param todoIds 게시글 ID 목록
+     */
+    public void evictAll(Collection<Long> todoIds) {
+        long now = System.currentTimeMillis();
+        todoIds.forEach(todoId -> evictedAt.put(todoId, now));
+        cache.invalidateAll(todoIds);
+    }
+
+    /**
+     * 적중/실패/제거 통계
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * 현재 저장된 항목 수 (근사값)
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * 캐시 통계를 메트릭으로 등록 (MeterBinder 빈은 Actuator가 자동으로 호출)
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "todoDetail");
+    }
+}
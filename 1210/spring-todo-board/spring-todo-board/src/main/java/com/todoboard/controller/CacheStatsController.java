@@ -0,0 +1,54 @@
+package com.todoboard.controller;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.todoboard.cache.FragmentCache;
+import com.todoboard.cache.TodoDetailCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * ========================================
+ * 캐시 통계 컨트롤러
+ * ========================================
+ * - 메모리 캐시의 적중/실패/제거 통계를 JSON으로 제공
+ */
+@RestController
+@RequestMapping("/admin/caches")
+@RequiredArgsConstructor
+public class CacheStatsController {
+
+    private final TodoDetailCache todoDetailCache;
+    private final FragmentCache fragmentCache;
+
+    /**
+     * ========================================
+     * 캐시별 통계 조회
+     * ========================================
+     */
+    @GetMapping
+    public Map<String, Map<String, Object>> stats() {
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+        result.put("todoDetail", toMap(todoDetailCache.stats(), todoDetailCache.size()));
+        result.put("fragment", toMap(fragmentCache.stats(), fragmentCache.size()));
+        return result;
+    }
+
+    /**
+     * Caffeine 통계를 응답 형태로 변환
+     */
+    private Map<String, Object> toMap(CacheStats stats, long size) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("size", size);
+        map.put("hitCount", stats.hitCount());
+        map.put("missCount", stats.missCount());
+        map.put("hitRate", stats.hitRate());
+        map.put("evictionCount", stats.evictionCount());
+        map.put("loadFailureCount", stats.loadFailureCount());
+        return map;
+    }
+}
@@ -1,12 +1,18 @@
 package com.todoboard.controller;
 
+import com.todoboard.dto.CommentCursor;
+import com.todoboard.dto.CommentOrder;
 import com.todoboard.dto.CommentRequest;
+import com.todoboard.metrics.QueryBudget;
 import com.todoboard.service.CommentService;
 import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 /**
@@ -22,6 +28,36 @@ public class CommentController {
 
     private final CommentService commentService;
 
+    /**
+     * ========================================
+     * 댓글 더 보기
+     * ========================================
+     * - 상세 페이지의 "더 보기" 요청에 다음 댓글 목록 조각만 응답
+     * - 커서 (created_at, id) 다음부터 조회하므로 중간에 댓글이 추가/삭제되어도 중복/누락 없음
+     * - 잘못된 커서는 400
+     * - 쿼리 예산 1개: 댓글 목록 (size + 1개 조회로 다음 목록 여부 판단)
+     */
+    @GetMapping
+    @QueryBudget(1)
+    public String more(
+            @PathVariable Long todoId,
+            @RequestParam(defaultValue = "OLDEST") CommentOrder order, // 정렬
+            @RequestParam(required = false) String cursor, // 마지막으로 받은 댓글의 커서
+            @RequestParam(defaultValue = "" + CommentService.DEFAULT_PAGE_SIZE) int size, // 목록 크기
+            Model model
+    ) {
+        if (cursor != null && !cursor.isEmpty()) {
+            try {
+                CommentCursor.decode(cursor);
+            } catch (IllegalArgumentException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+            }
+        }
+        model.addAttribute("todoId", todoId);
+        model.addAttribute("comments", commentService.getComments(todoId, order, cursor, size));
+        return "todos/comment-page :: page"; // templates/todos/comment-page.html
+    }
+
     /**
      * ========================================
      * 댓글 작성
@@ -0,0 +1,53 @@
+package com.todoboard.controller;
+
+import com.todoboard.dto.BulkActionRequest;
+import com.todoboard.metrics.QueryBudget;
+import com.todoboard.service.TodoBulkService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * ========================================
+ * To-Do 일괄 처리 컨트롤러
+ * ========================================
+ * - 여러 게시글을 요청 하나로 완료/미완료/삭제 (정리 스크립트용)
+ * - 대상: ID 목록 또는 목록 화면과 같은 조회 조건
+ * - 응답: 묶음마다 진행 상황 한 줄씩 NDJSON 스트림, 마지막 줄은 done=true
+ */
+@RestController
+@RequestMapping("/todos/bulk")
+@RequiredArgsConstructor
+public class TodoBulkController {
+
+    private final TodoBulkService todoBulkService;
+
+    /**
+     * ========================================
+     * 일괄 처리
+     * ========================================
+     * - 예: {"action":"COMPLETE","filter":{"author":"홍길동","createdTo":"2024-01-31"}}
+     * - 예: {"action":"DELETE","ids":[1,2,3]}
+     * - 잘못된 요청(처리 종류 없음, 대상 중복/없음, ID 목록 초과)은 출력 전에 검증하므로 400
+     * - 쿼리 수가 묶음 수에 비례하므로 쿼리 예산은 검사하지 않음 (묶음당 조회 1 + 변경 1~2)
+     */
+    @PostMapping(consumes = "application/json")
+    @QueryBudget(0)
+    public void apply(@RequestBody BulkActionRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding("UTF-8");
+        
+        try {
+            todoBulkService.apply(request, response.getOutputStream());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+}
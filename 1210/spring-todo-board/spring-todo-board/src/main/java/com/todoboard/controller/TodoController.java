@@ -1,20 +1,48 @@
 package com.todoboard.controller;
 
+import com.todoboard.cache.BoardVersions;
+import com.todoboard.cache.FragmentCache;
+import com.todoboard.dto.CommentOrder;
+import com.todoboard.dto.TodoCursor;
+import com.todoboard.dto.TodoDetailResponse;
+import com.todoboard.dto.TodoFilter;
 import com.todoboard.dto.TodoRequest;
 import com.todoboard.dto.TodoResponse;
-import com.todoboard.entity.Todo;
+import com.todoboard.metrics.QueryBudget;
+import com.todoboard.reactive.ReactiveApiServer;
+import com.todoboard.repository.TodoDetailVersion;
+import com.todoboard.service.CommentService;
+import com.todoboard.service.TodoExportService;
 import com.todoboard.service.TodoService;
 import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.support.RequestContextUtils;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * ========================================
@@ -28,59 +56,189 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 @RequiredArgsConstructor
 public class TodoController {
 
+    /**
+     * 페이지 번호(OFFSET)로 이동할 수 있는 최대 페이지 수
+     * - 이후 페이지는 커서(Keyset) 방식으로만 이동
+     */
+    private static final int OFFSET_PAGE_LIMIT = 5;
+
     private final TodoService todoService;
+    private final CommentService commentService;
+    private final TodoExportService todoExportService;
+    private final BoardVersions boardVersions;
+    private final FragmentCache fragmentCache;
+    private final ObjectProvider<ReactiveApiServer> reactiveApiServer; // 실시간 피드 (꺼져 있으면 없음)
 
     /**
      * ========================================
-     * 목록 페이지 (페이징, 검색, 필터링)
+     * 목록 페이지 (페이징, 검색, 필터링, 정렬)
      * ========================================
+     * - 검색어, 완료 여부, 작성자, 작성/수정 기간, 정렬은 TodoFilter로 받아 함께 적용
+     * - 앞쪽 몇 페이지는 페이지 번호(OFFSET) 방식
+     * - 최신순이면 그 이후는 cursor 파라미터로 Keyset 방식 조회 (count 쿼리 없음)
+     * - 허용 범위를 넘는 페이지 번호는 커서 방식 첫 목록으로 리다이렉트 (최신순이 아니면 마지막 번호 페이지)
+     * - 잘못된 커서(주소를 직접 고친 경우 등)는 400
+     * - 목록 결과 조각은 게시판 버전 + 요청 파라미터별로 캐시 (적중하면 쿼리 없음)
+     * - 게시판 버전을 ETag로 사용, If-None-Match가 같으면 304 (쿼리, 렌더링 없음)
+     * - 조회수는 목록에 넣지 않고 화면이 GET /todos/views로 따로 조회 (조회가 ETag를 바꾸지 않음)
+     * - 쿼리 예산 2개: 목록(댓글 수 서브쿼리 포함) + count
      */
     @GetMapping
+    @QueryBudget(2)
     public String list(
             @RequestParam(defaultValue = "0") int page, // 페이지 번호 (0부터 시작)
             @RequestParam(defaultValue = "10") int size, // 페이지 크기
-            @RequestParam(required = false) String keyword, // 검색 키워드
-            @RequestParam(required = false) Boolean completed, // 완료 여부 필터
-            Model model
+            @ModelAttribute("filter") TodoFilter filter, // 검색어, 완료 여부, 작성자, 기간, 정렬
+            @RequestParam(required = false) String cursor, // 커서 (Keyset 페이징)
+            Model model,
+            WebRequest webRequest,
+            HttpServletRequest request,
+            HttpServletResponse response
     ) {
-        // 페이징 정보 생성 (최신순 정렬)
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        
-        Page<TodoResponse> todoPage;
-        
-        // 완료 여부 필터가 있으면 필터링
-        if (completed != null) {
-            todoPage = todoService.getTodosByCompleted(completed, pageable);
+        // 커서는 최신순에서만 사용 (다른 정렬이면 무시)
+        String listCursor = filter.supportsCursor() ? cursor : null;
+        if (listCursor != null && !listCursor.isEmpty()) {
+            try {
+                TodoCursor.decode(listCursor);
+            } catch (IllegalArgumentException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+            }
         }
-        // 검색 키워드가 있으면 검색
-        else if (keyword != null && !keyword.trim().isEmpty()) {
-            todoPage = todoService.searchTodos(keyword, pageable);
+        
+        // 페이지 번호 방식은 앞쪽 페이지까지만 허용 (이후는 커서 방식으로 이동)
+        if (page >= OFFSET_PAGE_LIMIT) {
+            return "redirect:" + beyondOffsetPagesUrl(filter, size);
         }
-        // 전체 목록 조회
-        else {
-            todoPage = todoService.getAllTodos(pageable);
+        int offsetPage = Math.max(0, page);
+        
+        // 버전은 데이터를 읽기 전에 확인 (읽는 도중 변경되면 다음 요청이 새 키로 다시 렌더링)
+        long version = boardVersions.board();
+        
+        // 조건부 요청: 게시판이 바뀌지 않았으면 304
+        String etag = weakETag("list-" + boardVersions.tag(version));
+        if (checkNotModified(webRequest, request, response, etag, -1)) {
+            return null;
         }
         
-        // 뷰에 데이터 전달
-        model.addAttribute("todoPage", todoPage);
-        model.addAttribute("keyword", keyword);
-        model.addAttribute("completed", completed);
+        // 필터 버튼: 완료 여부만 바꾸고 나머지 조건 유지
+        model.addAttribute("allUrl", listUrl(filter.withCompleted(null)));
+        model.addAttribute("pendingUrl", listUrl(filter.withCompleted(false)));
+        model.addAttribute("completedUrl", listUrl(filter.withCompleted(true)));
+        
+        String key = FragmentCache.key("list", version, offsetPage, size, filter.toQueryString(), listCursor);
+        model.addAttribute("resultsHtml", fragmentCache.render(key, boardVersions.boardChangedAt(),
+                "todos/list-results", () -> listResults(offsetPage, size, filter, listCursor), request, response));
+        addLiveFeed(model);
         
         return "todos/list"; // templates/todos/list.html
     }
 
+    /**
+     * ========================================
+     * 전체 게시글 내보내기 (NDJSON)
+     * ========================================
+     * - 게시글 하나당 JSON 한 줄, 응답 스트림에 바로 기록
+     * - includeComments=true 이면 댓글 목록 포함
+     */
+    @GetMapping("/export")
+    public void export(
+            @RequestParam(defaultValue = "false") boolean includeComments, // 댓글 포함 여부
+            HttpServletResponse response
+    ) throws IOException {
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader("Content-Disposition", "attachment; filename=\"todos.ndjson\"");
+        
+        todoExportService.exportTodos(includeComments, response.getOutputStream());
+    }
+
     /**
      * ========================================
      * 상세 페이지
      * ========================================
+     * - 게시글 수정 일시 + 최근 댓글 일시 + 댓글 개수로 ETag/Last-Modified 계산 (스칼라 쿼리 한 번)
+     * - 조회수는 매 조회마다 바뀌므로 검증 대상 화면에 넣지 않고 GET /todos/{id}/views 로 따로 조회
+     * - 변경이 없으면 엔티티 로딩과 렌더링 없이 304 (조회수는 증가)
+     * - 댓글은 첫 목록만 조회 (나머지는 "더 보기"로 GET /todos/{id}/comments?cursor=...)
+     * - 쿼리 예산 3개: 검증값 + 게시글 + 첫 댓글 목록 (캐시 적중 시 검증값만)
      */
     @GetMapping("/{id}")
-    public String detail(@PathVariable Long id, Model model) {
-        Todo todo = todoService.getTodoById(id);
+    @QueryBudget(3)
+    public String detail(@PathVariable Long id,
+                         @RequestParam(defaultValue = "OLDEST") CommentOrder commentOrder, // 댓글 정렬
+                         Model model, WebRequest webRequest,
+                         HttpServletRequest request, HttpServletResponse response) {
+        long version = boardVersions.todo(id); // 데이터보다 먼저 확인
+        
+        // 조건부 요청: 게시글과 댓글이 바뀌지 않았으면 304
+        TodoDetailVersion detailVersion = todoService.getTodoDetailVersion(id);
+        long updatedAt = toEpochMilli(detailVersion.getUpdatedAt());
+        long latestCommentAt = toEpochMilli(detailVersion.getLatestCommentAt());
+        String etag = weakETag("todo-" + id + "-" + Long.toString(updatedAt, 36) + "-"
+                + Long.toString(latestCommentAt, 36) + "-" + detailVersion.getCommentCount());
+        if (checkNotModified(webRequest, request, response, etag, Math.max(updatedAt, latestCommentAt))) {
+            todoService.countView(id);
+            return null;
+        }
+        
+        TodoDetailResponse todo = todoService.getTodoDetail(id); // 반영 대기 중인 조회수 포함
         model.addAttribute("todo", todo);
+        model.addAttribute("commentCount", detailVersion.getCommentCount()); // 검증값 쿼리에서 함께 조회됨
+        
+        // 댓글 영역 조각(첫 댓글 목록)은 게시글 버전 + 정렬별로 캐시
+        model.addAttribute("commentsHtml", fragmentCache.render(
+                FragmentCache.key("comments", id, version, commentOrder),
+                boardVersions.todoChangedAt(id),
+                "todos/detail-comments",
+                () -> Map.of(
+                        "todo", todo,
+                        "commentCount", detailVersion.getCommentCount(),
+                        "comments", commentService.getComments(id, commentOrder, null, CommentService.DEFAULT_PAGE_SIZE)),
+                request, response));
+        addLiveFeed(model);
         return "todos/detail"; // templates/todos/detail.html
     }
 
+    /**
+     * ========================================
+     * 조회수 (상세 화면에서 따로 조회)
+     * ========================================
+     * - 상세 화면은 304로 재사용될 수 있으므로 조회수는 매번 이 요청으로 최신 값을 받음
+     * - 캐시하지 않음, 조회수를 증가시키지 않음
+     * - 쿼리 예산 1개: 게시글 (2차 캐시 적중 시 없음)
+     */
+    @GetMapping(value = "/{id}/views", produces = MediaType.TEXT_PLAIN_VALUE)
+    @QueryBudget(1)
+    @ResponseBody
+    public ResponseEntity<String> views(@PathVariable Long id) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(Long.toString(todoService.getViewCount(id)));
+    }
+
+    /**
+     * ========================================
+     * 여러 게시글 조회수 (목록 화면에서 따로 조회)
+     * ========================================
+     * - 목록 결과는 쿼리 캐시, 조각 캐시, 304로 재사용되므로 조회수는 넣지 않고 이 요청으로 한 번에 받음
+     * - 응답: {"게시글 ID": 조회수, ...} (없는 게시글은 제외)
+     * - 캐시하지 않음, 조회수를 증가시키지 않음
+     * - ID가 TodoService.MAX_VIEW_COUNT_IDS개를 넘으면 400
+     * - 쿼리 예산 1개: 조회수 IN 조회
+     */
+    @GetMapping(value = "/views", produces = MediaType.APPLICATION_JSON_VALUE)
+    @QueryBudget(1)
+    @ResponseBody
+    public ResponseEntity<Map<Long, Long>> viewsOf(@RequestParam List<Long> ids) {
+        try {
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noStore())
+                    .body(todoService.getViewCounts(ids));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
     /**
      * ========================================
      * 작성 폼 페이지
@@ -125,13 +283,14 @@ public class TodoController {
      */
     @GetMapping("/{id}/edit")
     public String editForm(@PathVariable Long id, Model model) {
-        Todo todo = todoService.getTodoById(id);
+        TodoResponse todo = todoService.getTodo(id);
         
         // Todo를 TodoRequest로 변환
         TodoRequest todoRequest = TodoRequest.builder()
                 .title(todo.getTitle())
                 .content(todo.getContent())
                 .author(todo.getAuthor())
+                .version(todo.getVersion()) // 동시 수정 감지용
                 .build();
         
         model.addAttribute("todoRequest", todoRequest);
@@ -145,6 +304,8 @@ public class TodoController {
      * ========================================
      * 수정 처리
      * ========================================
+     * - 폼을 연 뒤 다른 사용자가 먼저 수정했으면 덮어쓰지 않고 입력 내용과 함께 폼으로 돌아감
+     *   (최신 버전을 담아 돌려주므로 확인 후 다시 저장하면 반영됨)
      */
     @PostMapping("/{id}")
     public String update(
@@ -162,7 +323,15 @@ public class TodoController {
         }
         
         // Todo 수정
-        todoService.updateTodo(id, todoRequest);
+        try {
+            todoService.updateTodo(id, todoRequest);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            todoRequest.setVersion(todoService.getTodo(id).getVersion());
+            bindingResult.reject("conflict", "다른 사용자가 먼저 수정했습니다. 최신 내용을 확인한 뒤 다시 저장해주세요.");
+            model.addAttribute("todoId", id);
+            model.addAttribute("isEdit", true);
+            return "todos/form";
+        }
         
         // 성공 메시지 전달
         redirectAttributes.addFlashAttribute("message", "게시글이 수정되었습니다.");
@@ -191,16 +360,114 @@ public class TodoController {
      * ========================================
      * 완료 상태 토글
      * ========================================
+     * - 화면을 연 뒤 다른 사용자가 먼저 상태를 바꿨으면 다시 뒤집지 않고 안내
      */
     @PostMapping("/{id}/toggle")
     public String toggleCompleted(@PathVariable Long id, RedirectAttributes redirectAttributes) {
-        TodoResponse updated = todoService.toggleCompleted(id);
+        boolean completed;
+        try {
+            completed = todoService.toggleCompleted(id);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            redirectAttributes.addFlashAttribute("message", "다른 사용자가 먼저 상태를 변경했습니다. 현재 상태를 확인해주세요.");
+            return "redirect:/todos/" + id;
+        }
         
         // 성공 메시지 전달
-        String status = updated.getCompleted() ? "완료" : "미완료";
+        String status = completed ? "완료" : "미완료";
         redirectAttributes.addFlashAttribute("message", "상태가 " + status + "로 변경되었습니다.");
         
         // 상세 페이지로 리다이렉트
         return "redirect:/todos/" + id;
     }
+
+    /**
+     * 조건부 요청 처리 (ETag / Last-Modified)
+     * - 응답에 검증값과 Cache-Control: no-cache(매번 재검증) 설정
+     * - 플래시 메시지가 있는 응답은 한 번만 보여야 하므로 검증값을 주지 않음
+     * @param lastModified 마지막 수정 시각 (epoch 밀리초, 없으면 -1)
+     * @return 304로 응답해야 하면 true
+     */
+    private boolean checkNotModified(WebRequest webRequest, HttpServletRequest request, HttpServletResponse response,
+                                     String etag, long lastModified) {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+        Map<String, ?> flash = RequestContextUtils.getInputFlashMap(request);
+        if (flash != null && !flash.isEmpty()) {
+            return false;
+        }
+        return webRequest.checkNotModified(etag, lastModified);
+    }
+
+    private static String weakETag(String value) {
+        return "W/\"" + value + "\"";
+    }
+
+    /**
+     * 일시를 epoch 밀리초로 변환 (null이면 0)
+     */
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime == null ? 0 : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * 실시간 피드(SSE) 포트 (반응형 API 서버가 켜져 있을 때만, 화면에서 같은 호스트의 이 포트로 구독)
+     */
+    private void addLiveFeed(Model model) {
+        reactiveApiServer.ifAvailable(server -> model.addAttribute("liveFeedPort", server.getPort()));
+    }
+
+    /**
+     * 조건을 유지한 목록 URL (컨텍스트 경로 제외)
+     */
+    private static String listUrl(TodoFilter filter) {
+        String query = filter.toQueryString();
+        return query.isEmpty() ? "/todos" : "/todos?" + query;
+    }
+
+    /**
+     * 페이지 번호 허용 범위를 넘은 요청의 이동 URL
+     * - 최신순: 마지막 번호 페이지 다음부터 커서 방식으로 (화면의 "다음" 링크와 같은 위치)
+     * - 그 외 정렬이거나 다음 목록이 없으면 마지막 번호 페이지
+     */
+    private String beyondOffsetPagesUrl(TodoFilter filter, int size) {
+        UriComponentsBuilder url = UriComponentsBuilder.fromUriString(listUrl(filter));
+        Page<TodoResponse> lastOffsetPage = todoService.findTodos(filter, PageRequest.of(OFFSET_PAGE_LIMIT - 1, size));
+        if (filter.supportsCursor() && lastOffsetPage.hasNext()) {
+            List<TodoResponse> content = lastOffsetPage.getContent();
+            url.queryParam("cursor", TodoCursor.next(content.get(content.size() - 1)).encode());
+        } else {
+            url.queryParam("page", Math.max(0, Math.min(lastOffsetPage.getTotalPages(), OFFSET_PAGE_LIMIT) - 1));
+        }
+        return url.queryParam("size", size).build().toUriString();
+    }
+
+    /**
+     * 목록 결과 조각(list-results.html) 모델 계산
+     * - 조각 캐시에 없을 때만 실행
+     */
+    private Map<String, Object> listResults(int page, int size, TodoFilter filter, String cursor) {
+        Map<String, Object> results = new HashMap<>();
+        results.put("listUrl", listUrl(filter)); // 페이징 링크 기준 URL
+        
+        // 커서가 있으면 Keyset 방식으로 조회
+        if (cursor != null && !cursor.isEmpty()) {
+            results.put("todoPage", todoService.getTodoSlice(filter, cursor, size));
+            results.put("cursorMode", true);
+            return results;
+        }
+        
+        // 정렬은 filter 기준, 여기서는 페이지 번호와 크기만 지정
+        Page<TodoResponse> todoPage = todoService.findTodos(filter, PageRequest.of(page, size));
+        
+        results.put("todoPage", todoPage);
+        results.put("cursorMode", false);
+        results.put("lastOffsetPage", page == OFFSET_PAGE_LIMIT - 1);
+        
+        // 마지막 페이지 번호 이후는 커서로 이동 (최신순만)
+        if (page == OFFSET_PAGE_LIMIT - 1 && todoPage.hasNext() && filter.supportsCursor()) {
+            List<TodoResponse> content = todoPage.getContent();
+            results.put("nextCursor", TodoCursor.next(content.get(content.size() - 1)).encode());
+        }
+        
+        return results;
+    }
 }
@@ -0,0 +1,61 @@
+package com.todoboard.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.todoboard.dto.ImportResult;
+import com.todoboard.service.TodoImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * ========================================
+ * To-Do 가져오기 컨트롤러
+ * ========================================
+ * - 대량 데이터를 요청 본문 스트림에서 바로 읽어 일괄 저장
+ * - Content-Type으로 형식 구분 (application/x-ndjson, text/csv)
+ * - 형식이 잘못된 본문(JSON 구문 오류, CSV 필드 부족, 날짜 형식 등)은 400
+ */
+@RestController
+@RequestMapping("/todos/import")
+@RequiredArgsConstructor
+public class TodoImportController {
+
+    private final TodoImportService todoImportService;
+
+    /**
+     * ========================================
+     * NDJSON 가져오기 (내보내기 형식)
+     * ========================================
+     */
+    @PostMapping(consumes = "application/x-ndjson")
+    public ImportResult importNdjson(HttpServletRequest request) throws IOException {
+        try {
+            return todoImportService.importNdjson(request.getInputStream());
+        } catch (IllegalArgumentException | JsonProcessingException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * ========================================
+     * CSV 가져오기 (기존 BOARD/REPLY 이관)
+     * ========================================
+     */
+    @PostMapping(consumes = "text/csv")
+    public ImportResult importCsv(HttpServletRequest request) throws IOException {
+        try (Reader reader = new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8)) {
+            return todoImportService.importCsv(reader);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+}
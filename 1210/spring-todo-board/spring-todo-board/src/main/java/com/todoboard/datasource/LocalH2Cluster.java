@@ -0,0 +1,82 @@
+package com.todoboard.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.h2.tools.CreateCluster;
+import org.h2.tools.Server;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ========================================
+ * 로컬 H2 클러스터 (복제본 라우팅 확인용)
+ * ========================================
+ * - todoboard.datasource.local-cluster.enabled=true (replica 프로필)일 때 H2 TCP 서버 두 개를 띄우고 클러스터로 묶음
+ * - 클러스터 URL(jdbc:h2:tcp://A,B/db)로 연결하면 쓰기는 두 인스턴스에 모두 실행되어 같은 데이터 유지
+ * - 읽기(SELECT)는 URL의 첫 서버에서만 실행되므로
+ *   주 DB는 A,B 순서, 복제본은 B,A 순서로 연결하면 서로 다른 인스턴스를 읽음
+ * - 시작할 때마다 데이터 디렉터리를 비우고 새로 만듦 (개발용 메모리 DB처럼 재시작하면 초기화)
+ * - 동기 복제라 실제 지연은 없음 (측정 지연은 하트비트 주기 이내)
+ * - DataSource보다 먼저 시작해야 하므로 ReplicaRoutingConfig가 생성 시 먼저 요청함
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "todoboard.datasource.local-cluster.enabled", havingValue = "true")
+public class LocalH2Cluster implements DisposableBean {
+
+    private final List<Server> servers = new ArrayList<>();
+
+    public LocalH2Cluster(@Value("${todoboard.datasource.local-cluster.base-dir}") String baseDir,
+                          @Value("${todoboard.datasource.local-cluster.ports}") List<Integer> ports,
+                          @Value("${todoboard.datasource.local-cluster.database}") String database,
+                          @Value("${spring.datasource.username}") String username,
+                          @Value("${spring.datasource.password:}") String password) throws SQLException, IOException {
+        if (ports.size() != 2) {
+            throw new IllegalStateException("로컬 클러스터는 포트 두 개로 구성합니다: " + ports);
+        }
+
+        List<String> addresses = new ArrayList<>();
+        try {
+            for (int i = 0; i < ports.size(); i++) {
+                Path directory = Paths.get(baseDir, "node" + (i + 1));
+                FileSystemUtils.deleteRecursively(directory);
+                Files.createDirectories(directory);
+                servers.add(Server.createTcpServer("-tcpPort", String.valueOf(ports.get(i)),
+                        "-baseDir", directory.toString(), "-ifNotExists").start());
+                addresses.add("localhost:" + ports.get(i));
+            }
+
+            // 첫 서버에 빈 DB를 만들어 둘째 서버로 복사하고, 두 DB에 클러스터 서버 목록 기록
+            new CreateCluster().runTool(
+                    "-urlSource", "jdbc:h2:tcp://" + addresses.get(0) + "/" + database,
+                    "-urlTarget", "jdbc:h2:tcp://" + addresses.get(1) + "/" + database,
+                    "-user", username,
+                    "-password", password,
+                    "-serverList", String.join(",", addresses));
+        } catch (SQLException | IOException | RuntimeException e) {
+            destroy();
+            throw e;
+        }
+
+        log.info("로컬 H2 클러스터 시작: {} (데이터 디렉터리: {})", addresses, baseDir);
+    }
+
+    /**
+     * 컨텍스트 종료 시 TCP 서버 정지 (이 빈을 먼저 요청한 DataSource 설정이 풀을 닫은 뒤 호출됨)
+     */
+    @Override
+    public void destroy() {
+        servers.forEach(Server::stop);
+        servers.clear();
+    }
+}
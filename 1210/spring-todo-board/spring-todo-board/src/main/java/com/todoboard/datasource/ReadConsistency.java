@@ -0,0 +1,119 @@
+package com.todoboard.datasource;
+
+import com.todoboard.transaction.AfterCommit;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.function.Supplier;
+
+/**
+ * ========================================
+ * 읽기 일관성 (복제본으로 읽어도 되는지)
+ * ========================================
+ * - 자기 쓰기 읽기: 쓰기 트랜잭션이 커밋되면 세션에 커밋 시각을 남기고,
+ *   같은 세션의 읽기는 복제본이 그 시각 이후까지 따라잡았을 때만 복제본으로 보냄
+ * - 캐시 채우기: 캐시 키가 바뀐 시각(BoardVersions.boardChangedAt 등) 이후까지 따라잡은 복제본에서만 읽음
+ *   (복제 지연된 값이 새 게시판 버전 키로 저장되면 다음 쓰기 전까지 계속 이전 데이터가 보임)
+ *   따라잡은 복제본이 없으면 주 DB
+ * - 주 DB 강제: 검색 색인 재구성처럼 기준 시각을 정할 수 없는 읽기
+ * - 복제본 라우팅을 켜지 않으면 (단일 DataSource) 아무 효과 없음
+ */
+public final class ReadConsistency {
+
+    static final String LAST_WRITE_ATTRIBUTE = ReadConsistency.class.getName() + ".LAST_WRITE";
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+    private static final ThreadLocal<Long> VISIBLE_AFTER = new ThreadLocal<>();
+
+    private ReadConsistency() {
+    }
+
+    /**
+     * 주 DB에서 읽기 (안에서 시작한 읽기 전용 트랜잭션도 모두 주 DB)
+     * @param reader 읽기 함수
+     * @return 읽은 값
+     */
+    public static <T> T onPrimary(Supplier<T> reader) {
+        Boolean previous = PRIMARY_REQUIRED.get();
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+        try {
+            return reader.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_REQUIRED.remove();
+            }
+        }
+    }
+
+    /**
+     * 주 DB에서 읽기 (반환값 없음)
+     * @param reader 읽기 작업
+     */
+    public static void runOnPrimary(Runnable reader) {
+        onPrimary(() -> {
+            reader.run();
+            return null;
+        });
+    }
+
+    /**
+     * 주어진 시각 이후까지 따라잡은 복제본에서 읽기 (없으면 주 DB, 안에서 시작한 읽기 전용 트랜잭션 모두)
+     * - 중첩되면 더 늦은 시각 기준
+     * @param visibleAfter 복제본에 보여야 하는 마지막 변경 시각 (epoch 밀리초, 커밋 후 기록한 값)
+     * @param reader 읽기 함수
+     * @return 읽은 값
+     */
+    public static <T> T visibleAfter(long visibleAfter, Supplier<T> reader) {
+        Long previous = VISIBLE_AFTER.get();
+        VISIBLE_AFTER.set(previous == null ? visibleAfter : Math.max(previous, visibleAfter));
+        try {
+            return reader.get();
+        } finally {
+            if (previous == null) {
+                VISIBLE_AFTER.remove();
+            } else {
+                VISIBLE_AFTER.set(previous);
+            }
+        }
+    }
+
+    /**
+     * 복제본이 이 시각 이후까지 따라잡아야 읽을 수 있음 (epoch 밀리초)
+     * - 주 DB 강제 중이면 Long.MAX_VALUE
+     * - 그 외에는 visibleAfter로 지정한 시각과 세션의 마지막 쓰기 시각 중 늦은 쪽 (둘 다 없으면 0)
+     */
+    static long requiredVisibleAfter() {
+        if (PRIMARY_REQUIRED.get() != null) {
+            return Long.MAX_VALUE;
+        }
+        Long visibleAfter = VISIBLE_AFTER.get();
+        long required = visibleAfter != null ? visibleAfter : 0L;
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return required;
+        }
+        // 세션이 없으면 만들지 않고 null
+        Object lastWrite = attributes.getAttribute(LAST_WRITE_ATTRIBUTE, RequestAttributes.SCOPE_SESSION);
+        return lastWrite instanceof Long ? Math.max(required, (Long) lastWrite) : required;
+    }
+
+    /**
+     * 현재 쓰기 트랜잭션이 커밋되면 세션에 커밋 시각 기록
+     * - 요청 스레드 밖(스케줄러, 비동기 응답 스트림)이나 트랜잭션 밖 실행은 기록하지 않음
+     */
+    static void recordWriteAfterCommit() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            try {
+                attributes.setAttribute(LAST_WRITE_ATTRIBUTE, System.currentTimeMillis(),
+                        RequestAttributes.SCOPE_SESSION);
+            } catch (IllegalStateException e) {
+                // 응답이 이미 전송되어 세션을 만들 수 없음 (이 요청의 쓰기는 복제 지연 허용 범위로 보임)
+            }
+        });
+    }
+}
@@ -0,0 +1,101 @@
+package com.todoboard.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ========================================
+ * 읽기/쓰기 라우팅 DataSource
+ * ========================================
+ * - 읽기 전용 트랜잭션(@Transactional(readOnly = true))은 복제본, 그 외(쓰기 트랜잭션, 트랜잭션 밖 실행)는 주 DB
+ * - 복제본은 ReplicaLagMonitor가 고름 (허용 지연 초과, 자기 쓰기가 아직 안 보임, 주 DB 강제면 주 DB)
+ * - 쓰기 트랜잭션은 커밋 후 세션에 커밋 시각을 남김 (ReadConsistency)
+ * - 복제본에서 읽는 트랜잭션의 하이버네이트 세션은 2차 캐시를 읽기만 함 (CacheMode.GET)
+ *   (복제 지연된 행이 2차 캐시에 저장되면 만료 시간까지 다른 요청에도 이전 값이 보임)
+ * - 커넥션을 얻는 시점에 트랜잭션의 읽기 전용 여부가 정해져 있어야 하므로
+ *   LazyConnectionDataSourceProxy로 감싸서 첫 SQL 실행 시점에 커넥션을 얻음 (ReplicaRoutingConfig)
+ * - 읽기/쓰기별 대상 선택 수는 todoboard.datasource.connections 메트릭
+ */
+class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final Counter writes;
+    private final Map<String, Counter> reads = new HashMap<>();
+
+    ReadWriteRoutingDataSource(ReplicaLagMonitor replicaLagMonitor, List<String> replicaNames,
+                               MeterRegistry meterRegistry) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.writes = connections(meterRegistry, "write", PRIMARY);
+        this.reads.put(PRIMARY, connections(meterRegistry, "read", PRIMARY));
+        for (String name : replicaNames) {
+            this.reads.put(name, connections(meterRegistry, "read", name));
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            ReadConsistency.recordWriteAfterCommit();
+            writes.increment();
+            return PRIMARY;
+        }
+
+        String replica = replicaLagMonitor.pick(ReadConsistency.requiredVisibleAfter());
+        if (replica != null) {
+            disableSecondLevelCachePuts();
+        }
+        String target = replica != null ? replica : PRIMARY;
+        reads.get(target).increment();
+        return target;
+    }
+
+    /**
+     * 현재 트랜잭션의 하이버네이트 세션을 CacheMode.GET으로 바꾸고, 트랜잭션이 끝나면 원래 모드로 되돌림
+     * - 커넥션은 첫 SQL 실행 시점에 얻으므로 그 SQL의 결과부터 2차 캐시/쿼리 캐시에 저장하지 않음
+     * - JPA 트랜잭션이 아니면 (JdbcTemplate 등) 아무것도 하지 않음
+     */
+    private static void disableSecondLevelCachePuts() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        for (Object resource : TransactionSynchronizationManager.getResourceMap().values()) {
+            if (!(resource instanceof EntityManagerHolder)) {
+                continue;
+            }
+            Session session = ((EntityManagerHolder) resource).getEntityManager().unwrap(Session.class);
+            CacheMode previous = session.getCacheMode();
+            if (!previous.isPutEnabled()) {
+                continue;
+            }
+            session.setCacheMode(CacheMode.GET);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (session.isOpen()) {
+                        session.setCacheMode(previous);
+                    }
+                }
+            });
+        }
+    }
+
+    private static Counter connections(MeterRegistry registry, String access, String target) {
+        return Counter.builder("todoboard.datasource.connections")
+                .tag("access", access)
+                .tag("target", target)
+                .description("읽기/쓰기별 커넥션 대상 선택 수")
+                .register(registry);
+    }
+}
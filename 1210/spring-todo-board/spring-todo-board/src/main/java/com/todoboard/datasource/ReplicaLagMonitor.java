@@ -0,0 +1,122 @@
+package com.todoboard.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * ========================================
+ * 복제본 지연 감시 (하트비트)
+ * ========================================
+ * - 주 DB의 replica_heartbeat 행에 현재 시각을 주기적으로 기록하고, 각 복제본에서 같은 행을 읽음
+ * - 복제본에 보이는 마지막 하트비트 시각 = 그 복제본이 따라잡은 시점
+ *   (복제는 커밋 순서대로 반영되므로 하트비트보다 먼저 커밋된 쓰기는 모두 보임)
+ * - 읽기를 보낼 수 있는 복제본 (여러 개면 돌아가며 사용)
+ *   1. 따라잡은 시점이 지금으로부터 허용 지연(todoboard.datasource.replica-lag-tolerance-ms) 이내
+ *   2. 따라잡은 시점이 요청한 시각(세션의 마지막 쓰기 커밋 시각)보다 뒤
+ * - 아직 확인 전이거나 조회에 실패한 복제본은 사용하지 않음 (다음 확인에서 성공하면 다시 사용)
+ * - 측정값은 todoboard.datasource.replica.lag 메트릭 (밀리초, 하트비트 주기만큼의 오차 포함)
+ * - 시각은 이 애플리케이션의 시계 기준 (여러 인스턴스로 띄우면 서버 시계 동기화 필요)
+ */
+@Slf4j
+public class ReplicaLagMonitor implements MeterBinder {
+
+    private static final String WRITE_HEARTBEAT = "UPDATE replica_heartbeat SET beat_millis = ? WHERE id = 1";
+    private static final String READ_HEARTBEAT = "SELECT beat_millis FROM replica_heartbeat WHERE id = 1";
+
+    private final JdbcTemplate primary;
+    private final List<String> names = new ArrayList<>();
+    private final List<JdbcTemplate> replicas = new ArrayList<>();
+    private final AtomicLongArray caughtUpTo;
+    private final long toleranceMillis;
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * @param primary 주 DB 커넥션 풀
+     * @param replicas 복제본 이름 -> 커넥션 풀 (순서 유지)
+     * @param toleranceMillis 허용 지연 (밀리초)
+     */
+    ReplicaLagMonitor(DataSource primary, Map<String, DataSource> replicas, long toleranceMillis) {
+        this.primary = new JdbcTemplate(primary);
+        replicas.forEach((name, dataSource) -> {
+            this.names.add(name);
+            this.replicas.add(new JdbcTemplate(dataSource));
+        });
+        this.caughtUpTo = new AtomicLongArray(replicas.size());
+        this.toleranceMillis = toleranceMillis;
+    }
+
+    /**
+     * 주 DB에 하트비트 기록 후 복제본마다 따라잡은 시점 확인
+     */
+    @Scheduled(fixedDelayString = "${todoboard.datasource.heartbeat-interval-ms:1000}")
+    public void heartbeat() {
+        try {
+            primary.update(WRITE_HEARTBEAT, System.currentTimeMillis());
+        } catch (DataAccessException e) {
+            log.warn("주 DB 하트비트 기록 실패: {}", e.getMessage());
+        }
+
+        for (int i = 0; i < replicas.size(); i++) {
+            try {
+                Long beat = replicas.get(i).queryForObject(READ_HEARTBEAT, Long.class);
+                caughtUpTo.set(i, beat != null ? beat : 0L);
+            } catch (DataAccessException e) {
+                if (caughtUpTo.getAndSet(i, 0L) != 0L) {
+                    log.warn("복제본 {} 하트비트 조회 실패, 다시 확인될 때까지 주 DB에서 읽습니다: {}",
+                            names.get(i), e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * 읽기를 보낼 복제본 선택
+     * @param requiredVisibleAfter 복제본이 이 시각(epoch 밀리초) 이후까지 따라잡아야 함
+     * @return 복제본 이름 (조건을 만족하는 복제본이 없으면 null)
+     */
+    String pick(long requiredVisibleAfter) {
+        long oldestAllowed = System.currentTimeMillis() - toleranceMillis;
+        int count = names.size();
+        int start = Math.floorMod(next.getAndIncrement(), count);
+        for (int i = 0; i < count; i++) {
+            int index = (start + i) % count;
+            long visible = caughtUpTo.get(index);
+            // 같은 밀리초에 기록된 하트비트는 쓰기보다 먼저일 수 있으므로 같으면 제외
+            if (visible > requiredVisibleAfter && visible >= oldestAllowed) {
+                return names.get(index);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 복제본별 지연 게이지 등록 (확인 전이거나 조회 실패면 NaN)
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (int i = 0; i < names.size(); i++) {
+            int index = i;
+            Gauge.builder("todoboard.datasource.replica.lag", caughtUpTo, beats -> lagMillis(beats.get(index)))
+                    .tag("replica", names.get(i))
+                    .baseUnit("milliseconds")
+                    .description("복제본이 주 DB보다 늦은 시간 (하트비트 기준)")
+                    .register(registry);
+        }
+    }
+
+    private static double lagMillis(long caughtUpTo) {
+        return caughtUpTo == 0L ? Double.NaN : System.currentTimeMillis() - caughtUpTo;
+    }
+}
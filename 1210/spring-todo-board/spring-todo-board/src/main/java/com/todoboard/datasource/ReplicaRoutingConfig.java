@@ -0,0 +1,122 @@
+package com.todoboard.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ========================================
+ * 읽기 복제본 라우팅 설정 (선택)
+ * ========================================
+ * - todoboard.datasource.routing.enabled=true일 때 스프링 부트 기본 DataSource 대신 라우팅 DataSource 등록
+ *   - 주 DB: spring.datasource.url (풀 크기 등은 spring.datasource.hikari.* 값 사용)
+ *   - 복제본: todoboard.datasource.replica-urls (쉼표로 여러 개, 사용자/비밀번호는 spring.datasource 값 사용)
+ * - 읽기 전용 트랜잭션은 복제본, 쓰기와 Flyway 마이그레이션은 주 DB (ReadWriteRoutingDataSource)
+ * - 커넥션 풀은 빈으로 등록하지 않음 (쿼리 집계 래퍼가 라우팅 DataSource와 풀에 이중으로 붙지 않도록)
+ *   풀 메트릭은 풀 이름(primary, replica-N)별 hikaricp.* 로 직접 등록
+ * - spring.jpa.open-in-view=false 필요
+ *   (켜져 있으면 요청의 첫 트랜잭션이 얻은 커넥션을 요청 끝까지 쓰므로 이후 트랜잭션이 나뉘지 않음)
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "todoboard.datasource.routing.enabled", havingValue = "true")
+public class ReplicaRoutingConfig implements DisposableBean {
+
+    private final HikariDataSource primary;
+    private final Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final MeterRegistry meterRegistry;
+
+    public ReplicaRoutingConfig(DataSourceProperties properties,
+                                MeterRegistry meterRegistry,
+                                ObjectProvider<LocalH2Cluster> localH2Cluster,
+                                @Value("${spring.datasource.hikari.maximum-pool-size:10}") int primaryPoolSize,
+                                @Value("${spring.datasource.hikari.connection-timeout:30000}") long connectionTimeout,
+                                @Value("${todoboard.datasource.replica-urls}") List<String> replicaUrls,
+                                @Value("${todoboard.datasource.replica-pool-size}") int replicaPoolSize,
+                                @Value("${todoboard.datasource.replica-lag-tolerance-ms}") long lagToleranceMillis,
+                                @Value("${spring.jpa.open-in-view:true}") boolean openInView) {
+        if (replicaUrls.isEmpty()) {
+            throw new IllegalStateException("todoboard.datasource.replica-urls에 복제본 URL을 지정해야 합니다.");
+        }
+        if (openInView) {
+            log.warn("spring.jpa.open-in-view=true이면 요청마다 첫 트랜잭션의 커넥션을 계속 사용하여 읽기/쓰기가 나뉘지 않습니다.");
+        }
+
+        // 로컬 클러스터를 쓰면 풀보다 먼저 시작
+        localH2Cluster.getIfAvailable();
+
+        this.meterRegistry = meterRegistry;
+        this.primary = pool(ReadWriteRoutingDataSource.PRIMARY, properties.determineUrl(), properties,
+                primaryPoolSize, connectionTimeout);
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            String name = "replica-" + (i + 1);
+            HikariDataSource replica = pool(name, replicaUrls.get(i).trim(), properties, replicaPoolSize, connectionTimeout);
+            replica.setReadOnly(true);
+            replicas.put(name, replica);
+        }
+        this.replicaLagMonitor = new ReplicaLagMonitor(primary, new LinkedHashMap<>(replicas), lagToleranceMillis);
+
+        log.info("읽기 복제본 라우팅 사용: 복제본 {}개, 허용 지연 {}ms", replicas.size(), lagToleranceMillis);
+    }
+
+    /**
+     * 애플리케이션 DataSource (JPA, JdbcTemplate, Flyway가 모두 사용)
+     */
+    @Bean
+    public DataSource dataSource() {
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(ReadWriteRoutingDataSource.PRIMARY, primary);
+
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(
+                replicaLagMonitor, new ArrayList<>(replicas.keySet()), meterRegistry);
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor() {
+        return replicaLagMonitor;
+    }
+
+    /**
+     * 컨텍스트 종료 시 커넥션 풀 닫기 (로컬 클러스터보다 먼저)
+     */
+    @Override
+    public void destroy() {
+        replicas.values().forEach(HikariDataSource::close);
+        primary.close();
+    }
+
+    private HikariDataSource pool(String name, String url, DataSourceProperties properties,
+                                  int maximumPoolSize, long connectionTimeout) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName(name);
+        pool.setJdbcUrl(url);
+        pool.setDriverClassName(properties.determineDriverClassName());
+        pool.setUsername(properties.determineUsername());
+        pool.setPassword(properties.determinePassword());
+        pool.setMaximumPoolSize(maximumPoolSize);
+        pool.setConnectionTimeout(connectionTimeout);
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return pool;
+    }
+}
@@ -0,0 +1,24 @@
+package com.todoboard.dto;
+
+/**
+ * ========================================
+ * 일괄 처리 종류
+ * ========================================
+ */
+public enum BulkAction {
+
+    /**
+     * 완료로 변경 (이미 완료된 게시글은 그대로)
+     */
+    COMPLETE,
+
+    /**
+     * 미완료로 변경 (이미 미완료인 게시글은 그대로)
+     */
+    REOPEN,
+
+    /**
+     * 삭제 (댓글 포함)
+     */
+    DELETE
+}
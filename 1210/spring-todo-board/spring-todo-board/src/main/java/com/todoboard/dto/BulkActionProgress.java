@@ -0,0 +1,55 @@
+package com.todoboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * ========================================
+ * 일괄 처리 진행 상황 DTO
+ * ========================================
+ * - 묶음을 하나 처리할 때마다 NDJSON 한 줄로 전송, 마지막 줄은 done=true
+ * - 마지막 줄이 오지 않았으면 중간에 실패한 것 (이전 묶음은 이미 반영됨)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkActionProgress {
+
+    /**
+     * 처리 종류
+     */
+    private BulkAction action;
+
+    /**
+     * 처리 시작 시점의 대상 게시글 수
+     */
+    private long total;
+
+    /**
+     * 지금까지 확인한 대상 게시글 수
+     */
+    private long processed;
+
+    /**
+     * 지금까지 실제로 바뀐(삭제된) 게시글 수 (이미 같은 상태이거나 없는 게시글 제외)
+     */
+    private long affected;
+
+    /**
+     * 지금까지 처리한 묶음 수 (묶음마다 트랜잭션 하나)
+     */
+    private int chunks;
+
+    /**
+     * 경과 시간 (밀리초)
+     */
+    private long elapsedMillis;
+
+    /**
+     * 완료 여부
+     */
+    private boolean done;
+}
@@ -0,0 +1,56 @@
+package com.todoboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * ========================================
+ * 일괄 처리 요청 DTO
+ * ========================================
+ * - 대상은 ID 목록 또는 목록 화면과 같은 조회 조건 중 하나로 지정
+ * - 둘 다 없으면 게시판 전체가 대상이므로 all=true를 함께 보내야 함 (실수로 전체 삭제 방지)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkActionRequest {
+
+    /**
+     * 처리 종류 (필수)
+     */
+    private BulkAction action;
+
+    /**
+     * 대상 게시글 ID 목록 (없는 ID는 건너뜀)
+     */
+    private List<Long> ids;
+
+    /**
+     * 대상 조회 조건 (검색어, 완료 여부, 작성자, 작성/수정 기간, 정렬은 무시)
+     */
+    private TodoFilter filter;
+
+    /**
+     * 조건 없이 전체를 대상으로 할지 여부
+     */
+    private boolean all;
+
+    /**
+     * ID 목록으로 대상을 지정했는지 여부
+     */
+    public boolean hasIds() {
+        return ids != null && !ids.isEmpty();
+    }
+
+    /**
+     * 조회 조건으로 대상을 지정했는지 여부
+     */
+    public boolean hasFilter() {
+        return filter != null && filter.hasAnyCondition();
+    }
+}
@@ -0,0 +1,66 @@
+package com.todoboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/**
+ * ========================================
+ * 댓글 커서 (Keyset 페이징)
+ * ========================================
+ * - 마지막으로 받은 댓글의 (createdAt, id) 위치를 담는 불투명 토큰
+ * - 정렬 방향은 요청 파라미터(CommentOrder)로 따로 전달
+ */
+@Getter
+@AllArgsConstructor
+public class CommentCursor {
+
+    /**
+     * 기준 댓글 작성 일시
+     */
+    private final LocalDateTime createdAt;
+
+    /**
+     * 기준 댓글 ID (작성 일시가 같을 때 순서 결정)
+     */
+    private final Long id;
+
+    /**
+     * 이 댓글 다음부터 이어서 조회할 커서
+     */
+    public static CommentCursor after(CommentResponse last) {
+        return new CommentCursor(last.getCreatedAt(), last.getId());
+    }
+
+    /**
+     * 커서를 URL에 사용할 수 있는 문자열로 변환
+     */
+    public String encode() {
+        // DB TIMESTAMP 정밀도(마이크로초)에 맞춰 저장
+        String raw = createdAt.truncatedTo(ChronoUnit.MICROS) + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 문자열을 커서로 변환
+     * @param token encode()로 만든 문자열
+     * @return 커서
+     */
+    public static CommentCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + token);
+            }
+            return new CommentCursor(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + token, e);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.todoboard.dto;
+
+/**
+ * ========================================
+ * 댓글 정렬 기준
+ * ========================================
+ * - 작성 일시가 같으면 ID로 순서 결정 (커서 기준 (createdAt, id))
+ */
+public enum CommentOrder {
+
+    /**
+     * 작성순 (createdAt ASC, id ASC, 기본값)
+     */
+    OLDEST,
+
+    /**
+     * 최신순 (createdAt DESC, id DESC)
+     */
+    LATEST
+}
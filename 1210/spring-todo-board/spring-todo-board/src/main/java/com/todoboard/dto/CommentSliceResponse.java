@@ -0,0 +1,56 @@
+package com.todoboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * ========================================
+ * 댓글 커서 목록 응답 DTO
+ * ========================================
+ * - Keyset 페이징 결과 (전체 개수 없음, 개수는 상세 화면 검증값 쿼리에서 함께 조회)
+ * - 더 보기 요청용 불투명 커서 포함
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CommentSliceResponse {
+
+    /**
+     * 댓글 목록 (order 기준)
+     */
+    private List<CommentResponse> content;
+
+    /**
+     * 정렬 기준
+     */
+    private CommentOrder order;
+
+    /**
+     * 다음 목록 존재 여부
+     */
+    private boolean hasNext;
+
+    /**
+     * 다음 목록 커서 (없으면 null)
+     */
+    private String nextCursor;
+
+    /**
+     * 다음 목록 존재 여부 (뷰에서 사용)
+     */
+    public boolean hasNext() {
+        return hasNext;
+    }
+
+    /**
+     * 목록이 비었는지 여부
+     */
+    public boolean isEmpty() {
+        return content == null || content.isEmpty();
+    }
+}
@@ -0,0 +1,39 @@
+package com.todoboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * ========================================
+ * 가져오기 결과 DTO
+ * ========================================
+ * - 저장한 게시글/댓글 수와 처리 속도
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportResult {
+
+    /**
+     * 저장한 게시글 수
+     */
+    private long todoCount;
+
+    /**
+     * 저장한 댓글 수
+     */
+    private long commentCount;
+
+    /**
+     * 처리 시간 (밀리초)
+     */
+    private long elapsedMillis;
+
+    /**
+     * 초당 저장 행 수 (게시글 + 댓글)
+     */
+    private long rowsPerSecond;
+}
@@ -0,0 +1,94 @@
+package com.todoboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/**
+ * ========================================
+ * 목록 커서 (Keyset 페이징)
+ * ========================================
+ * - (createdAt, id) 기준 위치와 이동 방향을 담는 불투명 토큰
+ * - OFFSET 스캔과 count 쿼리 없이 다음/이전 목록 조회
+ */
+@Getter
+@AllArgsConstructor
+public class TodoCursor {
+
+    /**
+     * 기준 게시글 생성 일시
+     */
+    private final LocalDateTime createdAt;
+
+    /**
+     * 기준 게시글 ID (생성 일시가 같을 때 순서 결정)
+     */
+    private final Long id;
+
+    /**
+     * 이동 방향 (true: 이전 = 더 최신 글, false: 다음 = 더 오래된 글)
+     */
+    private final boolean backward;
+
+    /**
+     * 다음 목록(더 오래된 글) 커서 생성
+     */
+    public static TodoCursor next(TodoResponse last) {
+        return new TodoCursor(last.getCreatedAt(), last.getId(), false);
+    }
+
+    /**
+     * 이전 목록(더 최신 글) 커서 생성
+     */
+    public static TodoCursor previous(TodoResponse first) {
+        return new TodoCursor(first.getCreatedAt(), first.getId(), true);
+    }
+
+    /**
+     * 커서를 URL에 사용할 수 있는 문자열로 변환
+     */
+    public String encode() {
+        // DB TIMESTAMP 정밀도(마이크로초)에 맞춰 저장
+        String raw = (backward ? "p" : "n") + "|" + createdAt.truncatedTo(ChronoUnit.MICROS) + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 문자열을 커서로 변환
+     * @param token encode()로 만든 문자열
+     * @return 커서
+     */
+    public static TodoCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3 || !(parts[0].equals("n") || parts[0].equals("p"))) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + token);
+            }
+            return new TodoCursor(LocalDateTime.parse(parts[1]), Long.valueOf(parts[2]), parts[0].equals("p"));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + token, e);
+        }
+    }
+
+    /**
+     * 최신순 목록에서 이 커서보다 뒤(더 오래된 글)에 있는지 여부
+     */
+    public boolean isBefore(LocalDateTime otherCreatedAt, Long otherId) {
+        int compare = otherCreatedAt.compareTo(createdAt);
+        return compare < 0 || (compare == 0 && otherId < id);
+    }
+
+    /**
+     * 최신순 목록에서 이 커서보다 앞(더 최신 글)에 있는지 여부
+     */
+    public boolean isAfter(LocalDateTime otherCreatedAt, Long otherId) {
+        int compare = otherCreatedAt.compareTo(createdAt);
+        return compare > 0 || (compare == 0 && otherId > id);
+    }
+}
@@ -0,0 +1,81 @@
+package com.todoboard.dto;
+
+import com.todoboard.entity.Todo;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * ========================================
+ * To-Do 상세 응답 DTO
+ * ========================================
+ * - 상세 페이지에 필요한 게시글 정보 (댓글은 CommentService.getComments로 페이지 단위 조회)
+ * - TodoDetailCache에 저장되어 여러 요청이 공유하므로 생성 후 변경하지 않음
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class TodoDetailResponse {
+
+    /**
+     * 게시글 ID
+     */
+    private Long id;
+
+    /**
+     * 제목
+     */
+    private String title;
+
+    /**
+     * 내용
+     */
+    private String content;
+
+    /**
+     * 완료 여부
+     */
+    private Boolean completed;
+
+    /**
+     * 작성자
+     */
+    private String author;
+
+    /**
+     * 조회수
+     */
+    private Long viewCount;
+
+    /**
+     * 생성 일시
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * 수정 일시
+     */
+    private LocalDateTime updatedAt;
+
+    /**
+     * Entity를 DTO로 변환하는 정적 팩토리 메서드
+     * @param todo Todo 엔티티
+     * @return TodoDetailResponse DTO
+     */
+    public static TodoDetailResponse from(Todo todo) {
+        return TodoDetailResponse.builder()
+                .id(todo.getId())
+                .title(todo.getTitle())
+                .content(todo.getContent())
+                .completed(todo.getCompleted())
+                .author(todo.getAuthor())
+                .viewCount(todo.getViewCount())
+                .createdAt(todo.getCreatedAt())
+                .updatedAt(todo.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,91 @@
+package com.todoboard.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.todoboard.entity.Todo;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * ========================================
+ * To-Do 내보내기 DTO
+ * ========================================
+ * - NDJSON 내보내기의 한 줄(게시글 하나)에 해당
+ * - 댓글 포함 옵션이 꺼져 있으면 comments 필드 생략
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TodoExportResponse {
+
+    /**
+     * 게시글 ID
+     */
+    private Long id;
+
+    /**
+     * 제목
+     */
+    private String title;
+
+    /**
+     * 내용
+     */
+    private String content;
+
+    /**
+     * 완료 여부
+     */
+    private Boolean completed;
+
+    /**
+     * 작성자
+     */
+    private String author;
+
+    /**
+     * 조회수
+     */
+    private Long viewCount;
+
+    /**
+     * 생성 일시
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * 수정 일시
+     */
+    private LocalDateTime updatedAt;
+
+    /**
+     * 댓글 목록 (댓글 포함 옵션일 때만)
+     */
+    private List<CommentResponse> comments;
+
+    /**
+     * Entity를 DTO로 변환하는 정적 팩토리 메서드
+     * @param todo Todo 엔티티
+     * @param comments 댓글 목록 (포함하지 않으면 null)
+     * @return TodoExportResponse DTO
+     */
+    public static TodoExportResponse from(Todo todo, List<CommentResponse> comments) {
+        return TodoExportResponse.builder()
+                .id(todo.getId())
+                .title(todo.getTitle())
+                .content(todo.getContent())
+                .completed(todo.getCompleted())
+                .author(todo.getAuthor())
+                .viewCount(todo.getViewCount())
+                .createdAt(todo.getCreatedAt())
+                .updatedAt(todo.getUpdatedAt())
+                .comments(comments)
+                .build();
+    }
+}
@@ -0,0 +1,184 @@
+package com.todoboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.StringJoiner;
+
+/**
+ * ========================================
+ * 목록 조회 조건 DTO
+ * ========================================
+ * - 검색어, 완료 여부, 작성자, 작성/수정 기간, 정렬을 자유롭게 조합
+ * - 비어 있는 조건은 적용하지 않음 (모든 조건은 AND)
+ * - 목록 화면의 요청 파라미터와 같은 이름으로 바인딩
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class TodoFilter {
+
+    /**
+     * 검색어 (제목 또는 내용)
+     */
+    private String keyword;
+
+    /**
+     * 완료 여부
+     */
+    private Boolean completed;
+
+    /**
+     * 작성자 (정확히 일치)
+     */
+    private String author;
+
+    /**
+     * 작성일 시작 (포함)
+     */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate createdFrom;
+
+    /**
+     * 작성일 끝 (포함)
+     */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate createdTo;
+
+    /**
+     * 수정일 시작 (포함)
+     */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate updatedFrom;
+
+    /**
+     * 수정일 끝 (포함)
+     */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate updatedTo;
+
+    /**
+     * 정렬 기준 (없으면 검색어가 있을 때 관련도순, 없을 때 최신순: effectiveSort)
+     */
+    private TodoSort sort;
+
+    /**
+     * 검색어 조건이 있는지 여부
+     */
+    public boolean hasKeyword() {
+        return keyword != null && !keyword.trim().isEmpty();
+    }
+
+    /**
+     * 작성자 조건이 있는지 여부
+     */
+    public boolean hasAuthor() {
+        return author != null && !author.trim().isEmpty();
+    }
+
+    /**
+     * 정렬 외 조건이 하나라도 있는지 여부 (일괄 처리 대상 확인용)
+     */
+    public boolean hasAnyCondition() {
+        return hasKeyword() || completed != null || hasAuthor()
+                || createdFrom != null || createdTo != null || updatedFrom != null || updatedTo != null;
+    }
+
+    /**
+     * 실제 적용할 정렬 (관련도순은 검색어가 있을 때만)
+     * - 정렬을 고르지 않았으면 검색어가 있을 때 관련도순, 없을 때 최신순
+     */
+    public TodoSort effectiveSort() {
+        if (sort == null) {
+            return defaultSort();
+        }
+        if (sort == TodoSort.RELEVANCE && !hasKeyword()) {
+            return TodoSort.LATEST;
+        }
+        return sort;
+    }
+
+    /**
+     * 정렬을 고르지 않았을 때의 정렬
+     */
+    private TodoSort defaultSort() {
+        return hasKeyword() ? TodoSort.RELEVANCE : TodoSort.LATEST;
+    }
+
+    /**
+     * 커서(Keyset) 페이징 가능 여부 (커서는 최신순 기준)
+     */
+    public boolean supportsCursor() {
+        return effectiveSort() == TodoSort.LATEST;
+    }
+
+    /**
+     * 작성 일시 하한 (포함, 없으면 null)
+     */
+    public LocalDateTime createdAtLowerBound() {
+        return startOf(createdFrom);
+    }
+
+    /**
+     * 작성 일시 상한 (미포함, 없으면 null)
+     */
+    public LocalDateTime createdAtUpperBound() {
+        return createdTo == null ? null : startOf(createdTo.plusDays(1));
+    }
+
+    /**
+     * 수정 일시 하한 (포함, 없으면 null)
+     */
+    public LocalDateTime updatedAtLowerBound() {
+        return startOf(updatedFrom);
+    }
+
+    /**
+     * 수정 일시 상한 (미포함, 없으면 null)
+     */
+    public LocalDateTime updatedAtUpperBound() {
+        return updatedTo == null ? null : startOf(updatedTo.plusDays(1));
+    }
+
+    /**
+     * 완료 여부만 바꾼 조건 (필터 버튼 링크용)
+     */
+    public TodoFilter withCompleted(Boolean completed) {
+        return toBuilder().completed(completed).build();
+    }
+
+    /**
+     * 비어 있지 않은 조건만 담은 쿼리 문자열 (URL 인코딩, 조건이 없으면 빈 문자열)
+     * - 페이징 링크와 조각 캐시 키에 사용
+     */
+    public String toQueryString() {
+        StringJoiner query = new StringJoiner("&");
+        appendParam(query, "keyword", hasKeyword() ? keyword.trim() : null);
+        appendParam(query, "completed", completed);
+        appendParam(query, "author", hasAuthor() ? author.trim() : null);
+        appendParam(query, "createdFrom", createdFrom);
+        appendParam(query, "createdTo", createdTo);
+        appendParam(query, "updatedFrom", updatedFrom);
+        appendParam(query, "updatedTo", updatedTo);
+        appendParam(query, "sort", effectiveSort() == defaultSort() ? null : effectiveSort());
+        return query.toString();
+    }
+
+    private static void appendParam(StringJoiner query, String name, Object value) {
+        if (value != null) {
+            query.add(name + "=" + URLEncoder.encode(value.toString(), StandardCharsets.UTF_8));
+        }
+    }
+
+    private static LocalDateTime startOf(LocalDate date) {
+        return date == null ? null : date.atStartOfDay();
+    }
+}
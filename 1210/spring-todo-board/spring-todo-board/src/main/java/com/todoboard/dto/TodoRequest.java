@@ -39,4 +39,9 @@ public class TodoRequest {
     @NotBlank(message = "작성자를 입력해주세요.")
     @Size(max = 50, message = "작성자는 50자 이내로 입력해주세요.")
     private String author;
+
+    /**
+     * 수정 폼이 읽어 온 게시글 버전 (수정 시 필수, 동시 수정 감지용)
+     */
+    private Long version;
 }
@@ -1,6 +1,7 @@
 package com.todoboard.dto;
 
 import com.todoboard.entity.Todo;
+import com.todoboard.repository.TodoSummary;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -32,10 +33,15 @@ public class TodoResponse {
     private String title;
 
     /**
-     * 내용
+     * 내용 (목록 조회에서는 null)
      */
     private String content;
 
+    /**
+     * 내용 요약 (목록 화면용)
+     */
+    private String excerpt;
+
     /**
      * 완료 여부
      */
@@ -66,22 +72,51 @@ public class TodoResponse {
      */
     private LocalDateTime updatedAt;
 
+    /**
+     * 낙관적 잠금 버전 (수정 폼에 전달, 목록용 Projection에서는 비어 있음)
+     */
+    private Long version;
+
     /**
      * Entity를 DTO로 변환하는 정적 팩토리 메서드
+     * - 댓글 개수는 댓글 컬렉션을 로딩하지 않도록 별도로 조회하여 전달
      * @param todo Todo 엔티티
+     * @param commentCount 댓글 개수
      * @return TodoResponse DTO
      */
-    public static TodoResponse from(Todo todo) {
+    public static TodoResponse from(Todo todo, long commentCount) {
         return TodoResponse.builder()
                 .id(todo.getId())
                 .title(todo.getTitle())
                 .content(todo.getContent())
+                .excerpt(todo.getExcerpt())
                 .completed(todo.getCompleted())
                 .author(todo.getAuthor())
                 .viewCount(todo.getViewCount())
-                .commentCount(todo.getComments().size()) // 댓글 개수 계산
+                .commentCount((int) commentCount)
                 .createdAt(todo.getCreatedAt())
                 .updatedAt(todo.getUpdatedAt())
+                .version(todo.getVersion())
+                .build();
+    }
+
+    /**
+     * 목록용 Projection을 DTO로 변환하는 정적 팩토리 메서드
+     * - 내용(content)과 수정 일시는 조회하지 않으므로 비어 있음
+     * - 조회수는 요약에 있을 때만 (JPQL 목록 조회 결과에는 없음)
+     * @param summary 게시글 요약
+     * @return TodoResponse DTO
+     */
+    public static TodoResponse from(TodoSummary summary) {
+        return TodoResponse.builder()
+                .id(summary.getId())
+                .title(summary.getTitle())
+                .excerpt(summary.getExcerpt())
+                .completed(summary.getCompleted())
+                .author(summary.getAuthor())
+                .viewCount(summary.getViewCount())
+                .commentCount(summary.getCommentCount().intValue())
+                .createdAt(summary.getCreatedAt())
                 .build();
     }
 }
@@ -0,0 +1,73 @@
+package com.todoboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * ========================================
+ * To-Do 커서 목록 응답 DTO
+ * ========================================
+ * - Keyset 페이징 결과 (전체 개수/페이지 수 없음)
+ * - 다음/이전 목록 조회용 불투명 커서 포함
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TodoSliceResponse {
+
+    /**
+     * 게시글 목록 (최신순)
+     */
+    private List<TodoResponse> content;
+
+    /**
+     * 요청한 목록 크기
+     */
+    private int size;
+
+    /**
+     * 다음(더 오래된) 목록 존재 여부
+     */
+    private boolean hasNext;
+
+    /**
+     * 이전(더 최신) 목록 존재 여부
+     */
+    private boolean hasPrevious;
+
+    /**
+     * 다음 목록 커서 (없으면 null)
+     */
+    private String nextCursor;
+
+    /**
+     * 이전 목록 커서 (없으면 null)
+     */
+    private String prevCursor;
+
+    /**
+     * 다음 목록 존재 여부 (Page와 같은 형태로 뷰에서 사용)
+     */
+    public boolean hasNext() {
+        return hasNext;
+    }
+
+    /**
+     * 이전 목록 존재 여부 (Page와 같은 형태로 뷰에서 사용)
+     */
+    public boolean hasPrevious() {
+        return hasPrevious;
+    }
+
+    /**
+     * 목록이 비었는지 여부
+     */
+    public boolean isEmpty() {
+        return content == null || content.isEmpty();
+    }
+}
@@ -0,0 +1,30 @@
+package com.todoboard.dto;
+
+/**
+ * ========================================
+ * 목록 정렬 기준
+ * ========================================
+ * - 동률이면 ID로 순서 결정
+ */
+public enum TodoSort {
+
+    /**
+     * 최신순 (createdAt DESC, id DESC, 커서 페이징 지원)
+     */
+    LATEST,
+
+    /**
+     * 오래된 순 (createdAt ASC, id ASC)
+     */
+    OLDEST,
+
+    /**
+     * 최근 수정순 (updatedAt DESC, id DESC)
+     */
+    UPDATED,
+
+    /**
+     * 관련도순 (검색어가 있을 때만, 없으면 최신순, 검색어가 있고 정렬을 고르지 않으면 기본값)
+     */
+    RELEVANCE
+}
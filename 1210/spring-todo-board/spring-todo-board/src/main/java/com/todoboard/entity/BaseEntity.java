@@ -1,6 +1,7 @@
 package com.todoboard.entity;
 
 import javax.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -14,6 +15,7 @@ import java.time.LocalDateTime;
  * ========================================
  * - 모든 엔티티가 공통으로 가지는 필드 정의
  * - 생성일, 수정일 자동 관리
+ * - 가져오기(import) 시 원래 일시 유지 가능
  */
 @Getter
 @MappedSuperclass // 상속받는 클래스에 매핑 정보만 제공
@@ -32,4 +34,38 @@ public abstract class BaseEntity {
      */
     @LastModifiedDate
     private LocalDateTime updatedAt;
+
+    /**
+     * 가져오기(import)로 지정한 생성/수정 일시 (저장하지 않음)
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private LocalDateTime importedCreatedAt;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private LocalDateTime importedUpdatedAt;
+
+    /**
+     * 기존 데이터를 가져올 때 원래 생성/수정 일시 유지
+     * - Auditing이 현재 시각으로 채운 뒤 @PrePersist에서 덮어씀
+     * @param createdAt 원래 생성 일시
+     * @param updatedAt 원래 수정 일시 (null이면 생성 일시)
+     */
+    public void importDates(LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.importedCreatedAt = createdAt;
+        this.importedUpdatedAt = updatedAt != null ? updatedAt : createdAt;
+    }
+
+    /**
+     * 저장 직전 가져온 일시 적용
+     * - 엔티티 리스너(Auditing) 다음에 호출됨
+     */
+    @PrePersist
+    protected void applyImportedDates() {
+        if (importedCreatedAt != null) {
+            this.createdAt = importedCreatedAt;
+            this.updatedAt = importedUpdatedAt;
+        }
+    }
 }
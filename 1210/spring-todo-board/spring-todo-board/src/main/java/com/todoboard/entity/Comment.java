@@ -2,6 +2,9 @@ package com.todoboard.entity;
 
 import javax.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 /**
  * ========================================
@@ -9,20 +12,36 @@ import lombok.*;
  * ========================================
  * - To-Do 게시글에 달린 댓글 정보를 저장
  * - Todo와 N:1 관계
+ * - 내용 수정은 2차 캐시에서 읽은 엔티티의 변경 감지로 처리 (버전으로 동시 수정 감지, 바뀐 컬럼만 UPDATE)
+ * - 하이버네이트 2차 캐시 대상 (READ_WRITE, 리전 설정은 SecondLevelCacheConfig)
  */
 @Entity
-@Table(name = "comments") // 테이블 이름 지정
+@Table(name = "comments") // 테이블 이름 지정 (스키마, 인덱스는 db/migration 스크립트에서 관리)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Comment.CACHE_REGION)
+@DynamicUpdate // 바뀐 컬럼만 UPDATE
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // 기본 생성자 (JPA 요구사항)
 @AllArgsConstructor
 @Builder
 public class Comment extends BaseEntity {
 
+    /**
+     * 2차 캐시 리전 이름
+     */
+    public static final String CACHE_REGION = "comment";
+
     /**
      * 댓글 ID (Primary Key)
+     * - IDENTITY는 INSERT 배치를 막으므로 시퀀스 사용
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY) // 자동 증가
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_seq_generator")
+    @SequenceGenerator(
+            name = "comment_seq_generator",
+            sequenceName = "comments_seq", // 시퀀스 이름
+            allocationSize = 50 // 시퀀스 한 번 호출로 50개 ID 확보 (pooled)
+    )
     private Long id;
 
     /**
@@ -37,6 +56,12 @@ public class Comment extends BaseEntity {
     @Column(nullable = false, length = 50)
     private String author;
 
+    /**
+     * 낙관적 잠금 버전 (수정할 때마다 1 증가)
+     */
+    @Version
+    private Long version;
+
     /**
      * 연관된 Todo (N:1 관계)
      * - FetchType.LAZY: 지연 로딩 (필요할 때만 조회)
@@ -47,16 +72,10 @@ public class Comment extends BaseEntity {
     private Todo todo;
 
     /**
-     * ========================================
-     * 비즈니스 메서드
-     * ========================================
-     */
-
-    /**
-     * 댓글 내용 수정
+     * 내용 수정
      * @param content 새 내용
      */
-    public void update(String content) {
+    public void updateContent(String content) {
         this.content = content;
     }
 }
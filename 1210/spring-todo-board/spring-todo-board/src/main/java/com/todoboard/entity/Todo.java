@@ -2,6 +2,9 @@ package com.todoboard.entity;
 
 import javax.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -13,20 +16,46 @@ import java.util.List;
  * - To-Do 게시글의 정보를 저장하는 엔티티
  * - 제목, 내용, 완료 여부, 작성자 정보 포함
  * - 댓글과 1:N 관계
+ * - 목록 조건 조합(완료 여부, 작성자, 기간)과 정렬용 복합 인덱스는 V2 마이그레이션에 정의
+ * - 수정/완료 토글은 2차 캐시에서 읽은 엔티티의 변경 감지로 처리 (버전으로 동시 수정 감지)
+ *   바뀐 컬럼만 UPDATE (@DynamicUpdate: 토글이 CLOB 내용을 다시 쓰지 않고, 읽은 뒤 반영된 조회수를 덮어쓰지 않음)
+ * - 하이버네이트 2차 캐시 대상 (READ_WRITE, 리전 설정은 SecondLevelCacheConfig)
+ *   하이버네이트를 거치지 않는 변경(일괄 완료, 조회수 반영)은 SecondLevelCacheSync로 캐시를 맞춤
  */
 @Entity
-@Table(name = "todos") // 테이블 이름 지정
+@Table(name = "todos") // 테이블 이름 지정 (스키마, 인덱스는 db/migration 스크립트에서 관리)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Todo.CACHE_REGION)
+@DynamicUpdate // 바뀐 컬럼만 UPDATE
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // 기본 생성자 (JPA 요구사항)
 @AllArgsConstructor
 @Builder
 public class Todo extends BaseEntity {
 
+    /**
+     * 내용 요약 최대 글자 수 (넘으면 말줄임표 추가)
+     */
+    public static final int EXCERPT_LENGTH = 100;
+
+    /**
+     * 2차 캐시 리전 이름 (게시글, 게시글별 댓글 컬렉션, 목록 앞쪽 페이지 쿼리 결과)
+     */
+    public static final String CACHE_REGION = "todo";
+    public static final String COMMENTS_CACHE_REGION = "todo.comments";
+    public static final String FIRST_PAGES_CACHE_REGION = "todo.first-pages";
+
     /**
      * 게시글 ID (Primary Key)
+     * - IDENTITY는 INSERT 배치를 막으므로 시퀀스 사용
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY) // 자동 증가
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todo_seq_generator")
+    @SequenceGenerator(
+            name = "todo_seq_generator",
+            sequenceName = "todos_seq", // 시퀀스 이름
+            allocationSize = 50 // 시퀀스 한 번 호출로 50개 ID 확보 (pooled)
+    )
     private Long id;
 
     /**
@@ -36,11 +65,19 @@ public class Todo extends BaseEntity {
     private String title;
 
     /**
-     * 게시글 내용 (필수, TEXT 타입)
+     * 게시글 내용 (필수, CLOB 타입)
      */
-    @Column(nullable = false, columnDefinition = "TEXT")
+    @Lob
+    @Column(nullable = false)
     private String content;
 
+    /**
+     * 내용 요약 (목록 화면용, 내용 앞부분)
+     * - 목록 조회에서 TEXT 컬럼을 읽지 않도록 저장/수정 시 함께 저장
+     */
+    @Column(nullable = false, length = EXCERPT_LENGTH * 2 + 1) // 서로게이트 쌍 + 말줄임표까지 수용
+    private String excerpt;
+
     /**
      * 완료 여부 (기본값: false)
      */
@@ -56,17 +93,28 @@ public class Todo extends BaseEntity {
 
     /**
      * 조회수 (기본값: 0)
+     * - ViewCountAggregator가 주기적으로 누적분을 반영
      */
     @Column(nullable = false)
     @Builder.Default
     private Long viewCount = 0L;
 
+    /**
+     * 낙관적 잠금 버전 (수정할 때마다 1 증가)
+     * - 수정 폼이 읽어 간 버전과 다르면 다른 사용자가 먼저 수정한 것
+     */
+    @Version
+    private Long version;
+
     /**
      * 댓글 목록 (1:N 관계)
-     * - CascadeType.ALL: Todo 삭제 시 댓글도 함께 삭제
+     * - CascadeType.ALL: Todo 저장 시 댓글도 함께 저장 (가져오기)
      * - orphanRemoval: 고아 객체 자동 제거
+     * - 게시글 삭제는 Cascade 대신 TodoService.deleteTodo의 일괄 DELETE 문 사용 (댓글을 하나씩 읽어 지우지 않음)
+     * - 2차 캐시에는 댓글 ID 목록만 저장 (댓글 내용은 Comment 리전)
      */
     @OneToMany(mappedBy = "todo", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Todo.COMMENTS_CACHE_REGION)
     @Builder.Default
     private List<Comment> comments = new ArrayList<>();
 
@@ -77,13 +125,38 @@ public class Todo extends BaseEntity {
      */
 
     /**
-     * 게시글 수정
+     * 저장 직전 내용 요약 생성 (빌더로 만든 새 게시글)
+     */
+    @PrePersist
+    private void initExcerpt() {
+        this.excerpt = excerptOf(content);
+    }
+
+    /**
+     * 내용 요약 생성
+     * - 앞부분 EXCERPT_LENGTH 글자 (서로게이트 쌍을 자르지 않도록 코드 포인트 기준)
+     * @param content 전체 내용
+     * @return 내용 요약
+     */
+    public static String excerptOf(String content) {
+        if (content == null) {
+            return "";
+        }
+        if (content.codePointCount(0, content.length()) <= EXCERPT_LENGTH) {
+            return content;
+        }
+        return content.substring(0, content.offsetByCodePoints(0, EXCERPT_LENGTH)) + "…";
+    }
+
+    /**
+     * 제목/내용 수정 (내용 요약도 함께 갱신)
      * @param title 새 제목
      * @param content 새 내용
      */
-    public void update(String title, String content) {
+    public void updateContent(String title, String content) {
         this.title = title;
         this.content = content;
+        this.excerpt = excerptOf(content);
     }
 
     /**
@@ -93,13 +166,6 @@ public class Todo extends BaseEntity {
         this.completed = !this.completed;
     }
 
-    /**
-     * 조회수 증가
-     */
-    public void increaseViewCount() {
-        this.viewCount++;
-    }
-
     /**
      * 댓글 추가
      * @param comment 추가할 댓글
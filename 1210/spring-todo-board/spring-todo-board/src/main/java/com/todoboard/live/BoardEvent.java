@@ -0,0 +1,66 @@
+package com.todoboard.live;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * ========================================
+ * 게시판 변경 이벤트 (실시간 피드)
+ * ========================================
+ * - 변경 내용 자체가 아니라 "무엇이 바뀌었는지"만 담음
+ *   (클라이언트는 필요하면 최신 상태를 다시 조회)
+ */
+@Getter
+@AllArgsConstructor
+public class BoardEvent {
+
+    /**
+     * 이벤트 종류
+     */
+    public enum Type {
+        COMMENT_CREATED,
+        COMMENT_DELETED,
+        TODO_UPDATED,
+        TODO_COMPLETED_CHANGED
+    }
+
+    private final Type type;
+
+    /**
+     * 변경된 게시글 ID
+     */
+    private final Long todoId;
+
+    /**
+     * 변경된 댓글 ID (댓글 이벤트만)
+     */
+    private final Long commentId;
+
+    /**
+     * 바뀐 완료 여부 (완료 상태 이벤트만)
+     */
+    private final Boolean completed;
+
+    /**
+     * 발생 일시
+     */
+    private final LocalDateTime occurredAt;
+
+    public static BoardEvent commentCreated(Long todoId, Long commentId) {
+        return new BoardEvent(Type.COMMENT_CREATED, todoId, commentId, null, LocalDateTime.now());
+    }
+
+    public static BoardEvent commentDeleted(Long todoId, Long commentId) {
+        return new BoardEvent(Type.COMMENT_DELETED, todoId, commentId, null, LocalDateTime.now());
+    }
+
+    public static BoardEvent todoUpdated(Long todoId) {
+        return new BoardEvent(Type.TODO_UPDATED, todoId, null, null, LocalDateTime.now());
+    }
+
+    public static BoardEvent todoCompletedChanged(Long todoId, boolean completed) {
+        return new BoardEvent(Type.TODO_COMPLETED_CHANGED, todoId, null, completed, LocalDateTime.now());
+    }
+}
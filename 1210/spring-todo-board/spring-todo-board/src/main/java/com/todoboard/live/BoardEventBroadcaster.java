@@ -0,0 +1,111 @@
+package com.todoboard.live;
+
+import com.todoboard.transaction.AfterCommit;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ========================================
+ * 게시판 변경 이벤트 팬아웃
+ * ========================================
+ * - 게시판 전체 채널 1개 + 구독자가 있는 게시글마다 채널 1개 (구독자가 모두 떠나면 제거)
+ * - 게시글 채널을 따로 두어 이벤트 하나가 그 게시글 구독자에게만 전달됨
+ * - 발행은 전용 스레드 하나에서 순서대로 처리 (요청 스레드는 팬아웃 비용을 부담하지 않음)
+ * - 구독자별로 읽지 못한 이벤트는 가장 최근 것 하나만 남김 (느린 구독자 때문에 메모리가 쌓이지 않음)
+ * - 구독은 Reactor Flux이므로 연결마다 스레드가 필요 없음 (반응형 API 서버에서 SSE로 전송)
+ */
+@Component
+public class BoardEventBroadcaster {
+
+    private final Scheduler publisher = Schedulers.newSingle("board-events", true);
+
+    private final Sinks.Many<BoardEvent> boardSink = Sinks.many().multicast().directBestEffort();
+
+    /**
+     * 게시글 ID -> 게시글 채널 (구독자가 있을 때만 존재)
+     */
+    private final ConcurrentHashMap<Long, TodoChannel> todoChannels = new ConcurrentHashMap<>();
+
+    /**
+     * 게시판 전체 이벤트 구독
+     */
+    public Flux<BoardEvent> board() {
+        return boardSink.asFlux().onBackpressureLatest();
+    }
+
+    /**
+     * 게시글 하나의 이벤트 구독
+     * @param todoId 게시글 ID
+     */
+    public Flux<BoardEvent> todo(Long todoId) {
+        return Flux.defer(() -> {
+            TodoChannel channel = todoChannels.compute(todoId, (id, current) -> {
+                TodoChannel joined = current != null ? current : new TodoChannel();
+                joined.subscribers++;
+                return joined;
+            });
+            return channel.sink.asFlux().doFinally(signal -> leave(todoId));
+        }).onBackpressureLatest();
+    }
+
+    /**
+     * 트랜잭션 커밋 후 이벤트 발행 (롤백되면 발행하지 않음)
+     */
+    public void publishAfterCommit(BoardEvent event) {
+        AfterCommit.run(() -> publish(event));
+    }
+
+    /**
+     * 즉시 이벤트 발행 (발행 스레드에 넘기고 바로 반환)
+     */
+    public void publish(BoardEvent event) {
+        publisher.schedule(() -> {
+            // 발행 스레드 하나에서만 호출되므로 동시 발행 실패(FAIL_NON_SERIALIZED) 없음
+            boardSink.tryEmitNext(event);
+            TodoChannel channel = todoChannels.get(event.getTodoId());
+            if (channel != null) {
+                channel.sink.tryEmitNext(event);
+            }
+        });
+    }
+
+    /**
+     * 게시판 전체 구독자 수
+     */
+    public int boardSubscriberCount() {
+        return boardSink.currentSubscriberCount();
+    }
+
+    /**
+     * 구독자가 있는 게시글 수
+     */
+    public int todoChannelCount() {
+        return todoChannels.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        boardSink.tryEmitComplete();
+        todoChannels.values().forEach(channel -> channel.sink.tryEmitComplete());
+        publisher.dispose();
+    }
+
+    private void leave(Long todoId) {
+        todoChannels.computeIfPresent(todoId, (id, channel) -> --channel.subscribers == 0 ? null : channel);
+    }
+
+    /**
+     * 게시글 채널 (구독자 수는 todoChannels.compute 안에서만 변경)
+     */
+    private static final class TodoChannel {
+
+        private final Sinks.Many<BoardEvent> sink = Sinks.many().multicast().directBestEffort();
+        private int subscribers;
+    }
+}
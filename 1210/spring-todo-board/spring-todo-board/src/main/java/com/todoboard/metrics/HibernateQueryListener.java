@@ -0,0 +1,23 @@
+package com.todoboard.metrics;
+
+import org.hibernate.EmptyInterceptor;
+import org.hibernate.type.Type;
+
+import java.io.Serializable;
+
+/**
+ * ========================================
+ * 하이버네이트 엔티티 로딩 감지
+ * ========================================
+ * - Interceptor.onLoad: 엔티티가 결과에서 만들어질 때마다 호출
+ * - SQL 실행 수는 QueryCountingDataSource가 JDBC 단계에서 집계
+ * - 세션 팩토리 전체에서 하나의 인스턴스를 공유하므로 상태는 QueryStats(ThreadLocal)에만 둠
+ */
+public class HibernateQueryListener extends EmptyInterceptor {
+
+    @Override
+    public boolean onLoad(Object entity, Serializable id, Object[] state, String[] propertyNames, Type[] types) {
+        QueryStats.recordEntityLoad();
+        return false; // 엔티티 상태를 변경하지 않음
+    }
+}
@@ -0,0 +1,73 @@
+package com.todoboard.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+/**
+ * ========================================
+ * 메트릭 설정
+ * ========================================
+ * - DataSource를 QueryCountingDataSource로 감싸서 SQL 실행 수/행 수/시간 집계
+ * - 하이버네이트에 엔티티 로딩 감지기 등록
+ * - 요청별/서비스 호출별 쿼리 메트릭과 쿼리 예산 검사 등록
+ * - HTTP 요청/커넥션 풀/하이버네이트 통계 메트릭은 Actuator 자동 설정 사용
+ */
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final MeterRegistry meterRegistry;
+    private final int requestDefaultBudget;
+
+    public MetricsConfig(MeterRegistry meterRegistry,
+                         @Value("${todoboard.query-budget.request-default:0}") int requestDefaultBudget) {
+        this.meterRegistry = meterRegistry;
+        this.requestDefaultBudget = requestDefaultBudget;
+    }
+
+    /**
+     * DataSource 빈을 집계용 DataSource로 교체
+     * - static: 다른 빈보다 먼저 등록되어야 DataSource 생성 시점에 적용됨
+     */
+    @Bean
+    public static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource && !(bean instanceof QueryCountingDataSource)) {
+                    return new QueryCountingDataSource((DataSource) bean);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateQueryListenerCustomizer() {
+        HibernateQueryListener listener = new HibernateQueryListener();
+        return properties -> properties.put(AvailableSettings.INTERCEPTOR, listener);
+    }
+
+    @Bean
+    public ServiceMetricsAspect serviceMetricsAspect() {
+        return new ServiceMetricsAspect(meterRegistry, queryMetrics());
+    }
+
+    @Bean
+    QueryMetrics queryMetrics() {
+        return new QueryMetrics(meterRegistry);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RequestMetricsInterceptor(queryMetrics(), requestDefaultBudget));
+    }
+}
@@ -0,0 +1,27 @@
+package com.todoboard.metrics;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * ========================================
+ * 쿼리 예산 (SQL 실행 수 상한)
+ * ========================================
+ * - 컨트롤러 메서드: 요청 하나에서 실행할 수 있는 SQL 수 (뷰 렌더링 포함)
+ * - 서비스 메서드/클래스: 호출 하나에서 실행할 수 있는 SQL 수 (커밋 포함)
+ * - 초과하면 경고 로그와 *.query.budget.exceeded 카운터 증가 (요청은 정상 처리)
+ * - 지정하지 않은 요청은 todoboard.query-budget.request-default 적용
+ */
+@Documented
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    /**
+     * 허용하는 최대 SQL 실행 수
+     */
+    int value();
+}
@@ -0,0 +1,108 @@
+package com.todoboard.metrics;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * ========================================
+ * SQL 실행 집계 DataSource
+ * ========================================
+ * - 실제 DataSource를 감싸서 Connection → Statement → ResultSet을 프록시로 반환
+ * - execute* 호출마다 실행 수와 시간, ResultSet.next()가 true일 때마다 읽은 행 수를 QueryStats에 기록
+ * - JPA, JdbcTemplate 등 DataSource를 쓰는 모든 경로가 집계됨
+ * - 집계 범위가 없으면 기록만 건너뛰고 그대로 위임
+ */
+public class QueryCountingDataSource extends DelegatingDataSource {
+
+    public QueryCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(super.getConnection(username, password));
+    }
+
+    private static Connection wrapConnection(Connection connection) {
+        return proxy(Connection.class, connection, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof CallableStatement) {
+                return wrapStatement(CallableStatement.class, (CallableStatement) result);
+            }
+            if (result instanceof PreparedStatement) {
+                return wrapStatement(PreparedStatement.class, (PreparedStatement) result);
+            }
+            if (result instanceof Statement) {
+                return wrapStatement(Statement.class, (Statement) result);
+            }
+            return result;
+        });
+    }
+
+    private static <S extends Statement> S wrapStatement(Class<S> type, S statement) {
+        return proxy(type, statement, (proxy, method, args) -> {
+            if (!method.getName().startsWith("execute")) {
+                return wrapResultSet(invoke(statement, method, args));
+            }
+            long start = System.nanoTime();
+            try {
+                return wrapResultSet(invoke(statement, method, args));
+            } finally {
+                QueryStats.recordStatement(System.nanoTime() - start);
+            }
+        });
+    }
+
+    private static Object wrapResultSet(Object result) {
+        if (!(result instanceof ResultSet)) {
+            return result;
+        }
+        ResultSet resultSet = (ResultSet) result;
+        return proxy(ResultSet.class, resultSet, (proxy, method, args) -> {
+            Object value = invoke(resultSet, method, args);
+            if ("next".equals(method.getName()) && Boolean.TRUE.equals(value)) {
+                QueryStats.recordRow();
+            }
+            return value;
+        });
+    }
+
+    /**
+     * 실제 객체의 메서드 호출 (리플렉션 예외는 원래 예외로 풀어서 던짐)
+     */
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    /**
+     * 인터페이스 프록시 생성
+     * - equals는 프록시 자신과만 같도록 처리 (하이버네이트가 Statement/ResultSet을 Map 키로 사용)
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, InvocationHandler handler) {
+        InvocationHandler identityEquals = (proxy, method, args) -> "equals".equals(method.getName()) && args != null && args.length == 1
+                ? proxy == args[0]
+                : handler.invoke(proxy, method, args);
+        return (T) Proxy.newProxyInstance(QueryCountingDataSource.class.getClassLoader(), new Class<?>[]{type}, identityEquals);
+    }
+}
@@ -0,0 +1,60 @@
+package com.todoboard.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ========================================
+ * 집계 범위 결과를 메트릭으로 기록
+ * ========================================
+ * - {prefix}.queries / .rows / .entity.loads: 범위 하나의 SQL 수, 읽은 행 수, 엔티티 로딩 수
+ * - {prefix}.jdbc.time: 범위 하나의 JDBC 실행 시간 합계
+ * - 예산 초과 시 경고 로그 + {prefix}.query.budget.exceeded 카운터
+ */
+@Slf4j
+@RequiredArgsConstructor
+class QueryMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * @param prefix 메트릭 이름 앞부분 (todoboard.request, todoboard.service)
+     * @param tags 범위를 구분하는 태그
+     * @param stats 집계 결과
+     * @param budget 최대 SQL 수 (0 이하면 검사하지 않음)
+     * @param scope 로그에 표시할 범위 이름
+     */
+    void record(String prefix, Tags tags, QueryStats stats, int budget, String scope) {
+        DistributionSummary.builder(prefix + ".queries")
+                .description("범위 하나에서 실행된 SQL 문 수")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getStatementCount());
+        DistributionSummary.builder(prefix + ".rows")
+                .description("범위 하나에서 읽은 결과 행 수")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getRowCount());
+        DistributionSummary.builder(prefix + ".entity.loads")
+                .description("범위 하나에서 로딩된 엔티티 수")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getEntityLoadCount());
+        Timer.builder(prefix + ".jdbc.time")
+                .description("범위 하나의 JDBC 실행 시간 합계")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getJdbcNanos(), TimeUnit.NANOSECONDS);
+
+        if (budget > 0 && stats.getStatementCount() > budget) {
+            meterRegistry.counter(prefix + ".query.budget.exceeded", tags).increment();
+            log.warn("쿼리 예산 초과: {} (최대 {}개) {}", scope, budget, stats);
+        }
+    }
+}
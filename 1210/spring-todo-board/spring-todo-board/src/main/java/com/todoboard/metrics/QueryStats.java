@@ -0,0 +1,97 @@
+package com.todoboard.metrics;
+
+/**
+ * ========================================
+ * 쿼리 집계 범위 (요청 / 서비스 호출)
+ * ========================================
+ * - SQL 실행 수, 읽은 행 수, JDBC 실행 시간, 엔티티 로딩 수를 누적
+ * - 현재 스레드에 묶이며 중첩 가능 (요청 안의 서비스 호출 등)
+ * - 기록은 현재 범위와 바깥 범위 모두에 더해짐
+ * - 범위 밖(스케줄러 등)에서 실행된 쿼리는 집계하지 않음
+ */
+public final class QueryStats {
+
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    private final QueryStats parent;
+    private long statementCount;
+    private long rowCount;
+    private long jdbcNanos;
+    private long entityLoadCount;
+
+    private QueryStats(QueryStats parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * 현재 스레드에서 새 집계 범위 시작
+     * - 반드시 같은 스레드에서 close() 호출
+     */
+    public static QueryStats open() {
+        QueryStats stats = new QueryStats(CURRENT.get());
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * 집계 범위 종료 (바깥 범위로 복귀)
+     */
+    public void close() {
+        if (parent != null) {
+            CURRENT.set(parent);
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * SQL 실행 1회 기록
+     * @param nanos 실행 시간 (나노초)
+     */
+    static void recordStatement(long nanos) {
+        for (QueryStats stats = CURRENT.get(); stats != null; stats = stats.parent) {
+            stats.statementCount++;
+            stats.jdbcNanos += nanos;
+        }
+    }
+
+    /**
+     * 결과 행 1개 읽음 기록
+     */
+    static void recordRow() {
+        for (QueryStats stats = CURRENT.get(); stats != null; stats = stats.parent) {
+            stats.rowCount++;
+        }
+    }
+
+    /**
+     * 엔티티 로딩 1회 기록
+     */
+    static void recordEntityLoad() {
+        for (QueryStats stats = CURRENT.get(); stats != null; stats = stats.parent) {
+            stats.entityLoadCount++;
+        }
+    }
+
+    public long getStatementCount() {
+        return statementCount;
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    public long getEntityLoadCount() {
+        return entityLoadCount;
+    }
+
+    @Override
+    public String toString() {
+        return "statements=" + statementCount + ", rows=" + rowCount
+                + ", jdbcMs=" + jdbcNanos / 1_000_000 + ", entityLoads=" + entityLoadCount;
+    }
+}
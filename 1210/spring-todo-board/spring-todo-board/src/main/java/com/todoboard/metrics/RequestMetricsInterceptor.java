@@ -0,0 +1,63 @@
+package com.todoboard.metrics;
+
+import io.micrometer.core.instrument.Tags;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * ========================================
+ * 요청별 쿼리 집계 + 쿼리 예산 검사
+ * ========================================
+ * - 컨트롤러 실행 전 집계 범위를 열고 응답이 끝나면 메트릭(todoboard.request.*)으로 기록
+ * - uri 태그는 매핑 패턴 (예: /todos/{id}) 이므로 게시글 ID별로 메트릭이 늘어나지 않음
+ * - 뷰 렌더링 중 지연 로딩으로 실행된 쿼리도 포함
+ * - 예산: 핸들러의 @QueryBudget, 없으면 기본값 (0이면 검사하지 않음)
+ */
+@RequiredArgsConstructor
+public class RequestMetricsInterceptor implements HandlerInterceptor {
+
+    private static final String STATS_ATTRIBUTE = RequestMetricsInterceptor.class.getName() + ".STATS";
+
+    private final QueryMetrics queryMetrics;
+    private final int defaultBudget;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        request.setAttribute(STATS_ATTRIBUTE, QueryStats.open());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        QueryStats stats = (QueryStats) request.getAttribute(STATS_ATTRIBUTE);
+        if (stats == null) {
+            return;
+        }
+        stats.close();
+        request.removeAttribute(STATS_ATTRIBUTE);
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        queryMetrics.record("todoboard.request", Tags.of("method", request.getMethod(), "uri", uri),
+                stats, budgetOf(handler), request.getMethod() + " " + uri);
+    }
+
+    /**
+     * 핸들러 메서드에 지정된 예산 (없으면 기본값)
+     */
+    private int budgetOf(Object handler) {
+        if (handler instanceof HandlerMethod) {
+            QueryBudget budget = ((HandlerMethod) handler).getMethodAnnotation(QueryBudget.class);
+            if (budget != null) {
+                return budget.value();
+            }
+        }
+        return defaultBudget;
+    }
+}
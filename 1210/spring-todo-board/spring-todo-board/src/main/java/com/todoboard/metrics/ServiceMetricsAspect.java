@@ -0,0 +1,73 @@
+package com.todoboard.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+
+/**
+ * ========================================
+ * 서비스 메서드 실행 시간 + 쿼리 집계
+ * ========================================
+ * - com.todoboard.service 의 *Service 빈의 public 메서드마다 Timer 기록
+ * - 태그: class, method, exception (예외가 없으면 none)
+ * - 호출마다 집계 범위를 열어 todoboard.service.* 쿼리 메트릭 기록, @QueryBudget이 있으면 예산 검사
+ * - 가장 먼저 실행되도록(@Order) 하여 @Transactional 프록시 바깥에서 측정 (커밋 시 flush 쿼리 포함)
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServiceMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+    private final QueryMetrics queryMetrics;
+
+    ServiceMetricsAspect(MeterRegistry meterRegistry, QueryMetrics queryMetrics) {
+        this.meterRegistry = meterRegistry;
+        this.queryMetrics = queryMetrics;
+    }
+
+    @Around("within(com.todoboard.service..*Service) && execution(public * *(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        String className = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String methodName = joinPoint.getSignature().getName();
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        QueryStats stats = QueryStats.open();
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            stats.close();
+            sample.stop(Timer.builder("todoboard.service")
+                    .description("서비스 메서드 실행 시간")
+                    .tag("class", className)
+                    .tag("method", methodName)
+                    .tag("exception", exception)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+            queryMetrics.record("todoboard.service", Tags.of("class", className, "method", methodName),
+                    stats, budgetOf(joinPoint), className + "." + methodName);
+        }
+    }
+
+    /**
+     * 메서드 또는 클래스에 지정된 예산 (없으면 0 = 검사하지 않음)
+     */
+    private int budgetOf(ProceedingJoinPoint joinPoint) {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        QueryBudget budget = AnnotatedElementUtils.findMergedAnnotation(signature.getMethod(), QueryBudget.class);
+        if (budget == null) {
+            budget = AnnotatedElementUtils.findMergedAnnotation(signature.getDeclaringType(), QueryBudget.class);
+        }
+        return budget != null ? budget.value() : 0;
+    }
+}
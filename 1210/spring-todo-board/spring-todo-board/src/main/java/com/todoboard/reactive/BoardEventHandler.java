@@ -0,0 +1,73 @@
+package com.todoboard.reactive;
+
+import com.todoboard.live.BoardEvent;
+import com.todoboard.live.BoardEventBroadcaster;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * ========================================
+ * 실시간 피드 핸들러 (Server-Sent Events)
+ * ========================================
+ * - 게시판 전체 / 게시글 하나의 변경 이벤트를 SSE로 전송 (이벤트 이름 = BoardEvent.Type)
+ * - 연결은 이벤트 루프에서 관리하므로 대기 중인 연결마다 스레드가 필요 없음
+ * - 이벤트가 없어도 일정 간격으로 주석(keep-alive)을 보내 프록시가 연결을 끊지 않게 하고 끊긴 연결을 정리
+ *   (타이머는 모든 연결이 하나를 공유)
+ */
+class BoardEventHandler {
+
+    private final BoardEventBroadcaster boardEvents;
+    private final ReactiveTodoRepository repository;
+    private final Flux<ServerSentEvent<BoardEvent>> heartbeat;
+
+    BoardEventHandler(BoardEventBroadcaster boardEvents, ReactiveTodoRepository repository, Duration heartbeatInterval) {
+        this.boardEvents = boardEvents;
+        this.repository = repository;
+        this.heartbeat = Flux.interval(heartbeatInterval)
+                .onBackpressureDrop()
+                .map(tick -> ServerSentEvent.<BoardEvent>builder().comment("keep-alive").build())
+                .share();
+    }
+
+    /**
+     * ========================================
+     * 게시판 전체 피드
+     * ========================================
+     * - GET /api/events
+     */
+    Mono<ServerResponse> board(ServerRequest request) {
+        return stream(boardEvents.board());
+    }
+
+    /**
+     * ========================================
+     * 게시글 피드 (댓글 작성/삭제, 수정, 완료 상태 변경)
+     * ========================================
+     * - GET /api/todos/{id}/events
+     */
+    Mono<ServerResponse> todo(ServerRequest request) {
+        return Mono.defer(() -> {
+            Long id = ReactiveTodoHandler.id(request);
+            return repository.existsById(id)
+                    .flatMap(exists -> exists
+                            ? stream(boardEvents.todo(id))
+                            : ServerResponse.notFound().build());
+        });
+    }
+
+    private Mono<ServerResponse> stream(Flux<BoardEvent> events) {
+        Flux<ServerSentEvent<BoardEvent>> body = Flux.merge(
+                events.map(event -> ServerSentEvent.builder(event).event(event.getType().name()).build()),
+                heartbeat);
+        return ServerResponse.ok()
+                .contentType(MediaType.TEXT_EVENT_STREAM)
+                .body(BodyInserters.fromServerSentEvents(body));
+    }
+}
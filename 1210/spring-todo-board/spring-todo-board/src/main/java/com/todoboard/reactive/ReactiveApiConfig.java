@@ -0,0 +1,130 @@
+package com.todoboard.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todoboard.live.BoardEventBroadcaster;
+import com.todoboard.search.TodoSearchIndex;
+import com.todoboard.service.ViewCountAggregator;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.reactive.CorsWebFilter;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ========================================
+ * 반응형 읽기 API 설정 (WebFlux + R2DBC)
+ * ========================================
+ * - todoboard.reactive-api.enabled=true일 때 MVC와 별도 포트로 JSON 읽기 API 제공
+ * - 같은 H2 DB를 R2DBC 커넥션 풀로 조회 (JDBC 풀과 별개, todoboard.reactive-api.pool-size)
+ * - 게시판 변경 실시간 피드(SSE)도 같은 서버에서 제공 (MVC 화면에서 구독하므로 CORS 허용)
+ * - R2DBC ConnectionFactory는 빈으로 등록하지 않음
+ *   (빈이 있으면 스프링 부트가 JDBC DataSource 자동 설정을 건너뛰어 JPA가 동작하지 않음)
+ */
+@Configuration
+@ConditionalOnWebApplication
+@ConditionalOnProperty(name = "todoboard.reactive-api.enabled", havingValue = "true")
+public class ReactiveApiConfig implements DisposableBean {
+
+    private final ConnectionPool connectionPool;
+
+    public ReactiveApiConfig(@Value("${todoboard.reactive-api.r2dbc-url}") String url,
+                             @Value("${spring.datasource.username}") String username,
+                             @Value("${spring.datasource.password:}") String password,
+                             @Value("${todoboard.reactive-api.pool-size}") int poolSize) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .name("reactive-api")
+                .initialSize(1)
+                .maxSize(poolSize)
+                .build());
+    }
+
+    @Bean
+    public ReactiveApiServer reactiveApiServer(ObjectMapper objectMapper,
+                                               TodoSearchIndex todoSearchIndex,
+                                               ViewCountAggregator viewCountAggregator,
+                                               BoardEventBroadcaster boardEventBroadcaster,
+                                               @Value("${todoboard.reactive-api.address}") String address,
+                                               @Value("${todoboard.reactive-api.port}") int port,
+                                               @Value("${todoboard.reactive-api.event-loop-threads}") int threads,
+                                               @Value("${todoboard.reactive-api.allowed-origins}") List<String> origins,
+                                               @Value("${todoboard.live-feed.heartbeat-seconds}") long heartbeat) {
+        ReactiveTodoRepository repository = new ReactiveTodoRepository(DatabaseClient.create(connectionPool));
+        ReactiveTodoHandler todoHandler = new ReactiveTodoHandler(repository, todoSearchIndex, viewCountAggregator);
+        BoardEventHandler eventHandler = new BoardEventHandler(
+                boardEventBroadcaster, repository, Duration.ofSeconds(heartbeat));
+
+        // MVC와 같은 ObjectMapper 사용 (날짜 형식 등 JSON 표현을 맞춤)
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
+                .webFilter(corsFilter(origins))
+                .build();
+        return new ReactiveApiServer(RouterFunctions.toHttpHandler(routes(todoHandler, eventHandler), strategies),
+                address, port, threads);
+    }
+
+    /**
+     * ========================================
+     * 라우트
+     * ========================================
+     * - 잘못된 파라미터/커서(IllegalArgumentException)는 400
+     */
+    static RouterFunction<ServerResponse> routes(ReactiveTodoHandler todoHandler, BoardEventHandler eventHandler) {
+        return RouterFunctions.route()
+                .GET("/api/todos", todoHandler::list)
+                .GET("/api/todos/{id}", todoHandler::detail)
+                .GET("/api/todos/{id}/comments", todoHandler::comments)
+                .GET("/api/events", eventHandler::board)
+                .GET("/api/todos/{id}/events", eventHandler::todo)
+                .onError(IllegalArgumentException.class, (e, request) -> ServerResponse.badRequest()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(Map.of("message", String.valueOf(e.getMessage()))))
+                .build();
+    }
+
+    /**
+     * 다른 출처(MVC 화면)에서 GET 허용 (쿠키 등 자격 증명 없음)
+     */
+    private static CorsWebFilter corsFilter(List<String> origins) {
+        CorsConfiguration cors = new CorsConfiguration();
+        cors.setAllowedOriginPatterns(origins);
+        cors.addAllowedMethod("GET");
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/api/**", cors);
+        return new CorsWebFilter(source);
+    }
+
+    /**
+     * 컨텍스트 종료 시 R2DBC 커넥션 풀 닫기 (서버가 먼저 멈춘 뒤 호출됨)
+     */
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+}
@@ -0,0 +1,82 @@
+package com.todoboard.reactive;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * ========================================
+ * 반응형 API 서버 (Reactor Netty)
+ * ========================================
+ * - MVC(Tomcat)와 별도 포트에서 이벤트 루프 스레드 몇 개로 모든 연결 처리
+ * - 요청마다 스레드를 두지 않으므로 느린 클라이언트가 많아도 스레드 스택 메모리가 늘지 않음
+ * - 애플리케이션 컨텍스트 시작 후(Flyway 마이그레이션 이후) 열고, 종료 시 닫음
+ */
+@Slf4j
+public class ReactiveApiServer implements SmartLifecycle {
+
+    private final HttpHandler httpHandler;
+    private final String address;
+    private final int port;
+    private final int eventLoopThreads;
+
+    private LoopResources loopResources;
+    private volatile DisposableServer server;
+
+    /**
+     * @param httpHandler 라우터를 변환한 핸들러
+     * @param address 바인딩 주소
+     * @param port 포트 (0이면 임의 포트)
+     * @param eventLoopThreads 이벤트 루프 스레드 수 (0이면 CPU 코어 수)
+     */
+    public ReactiveApiServer(HttpHandler httpHandler, String address, int port, int eventLoopThreads) {
+        this.httpHandler = httpHandler;
+        this.address = address;
+        this.port = port;
+        this.eventLoopThreads = eventLoopThreads > 0 ? eventLoopThreads : LoopResources.DEFAULT_IO_WORKER_COUNT;
+    }
+
+    @Override
+    public void start() {
+        loopResources = LoopResources.create("reactive-api", eventLoopThreads, true);
+        server = HttpServer.create()
+                .host(address)
+                .port(port)
+                .runOn(loopResources)
+                .handle(new ReactorHttpHandlerAdapter(httpHandler))
+                .bindNow();
+        log.info("반응형 읽기 API 시작: {}:{} (이벤트 루프 스레드 {}개)", address, server.port(), eventLoopThreads);
+    }
+
+    @Override
+    public void stop() {
+        if (server != null) {
+            server.disposeNow();
+            server = null;
+        }
+        if (loopResources != null) {
+            loopResources.disposeLater().block();
+            loopResources = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * 실제 바인딩된 포트 (port=0으로 시작한 경우 확인용)
+     */
+    public int getPort() {
+        DisposableServer current = server;
+        if (current == null) {
+            throw new IllegalStateException("반응형 API 서버가 실행 중이 아닙니다.");
+        }
+        return current.port();
+    }
+}
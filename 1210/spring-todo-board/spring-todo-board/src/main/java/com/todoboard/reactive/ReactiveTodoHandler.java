@@ -0,0 +1,181 @@
+package com.todoboard.reactive;
+
+import com.todoboard.dto.CommentResponse;
+import com.todoboard.dto.TodoCursor;
+import com.todoboard.dto.TodoFilter;
+import com.todoboard.dto.TodoResponse;
+import com.todoboard.repository.TodoSummary;
+import com.todoboard.search.TodoSearchIndex;
+import com.todoboard.service.ViewCountAggregator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * ========================================
+ * 반응형 읽기 API 핸들러
+ * ========================================
+ * - 목록/검색, 상세, 댓글을 JSON으로 제공 (쓰기 없음, 화면은 기존 MVC)
+ * - 목록과 댓글은 기본 NDJSON 스트림: 조회되는 행을 바로 한 줄씩 전송
+ *   (Accept: application/json이면 JSON 배열)
+ * - 응답을 느리게 읽는 클라이언트에는 그만큼 DB에서도 늦게 읽음 (배압)
+ * - 조회수는 MVC 상세 화면과 같이 ViewCountAggregator에 누적
+ */
+@RequiredArgsConstructor
+class ReactiveTodoHandler {
+
+    /**
+     * 목록 기본/최대 크기
+     */
+    static final int DEFAULT_SIZE = 20;
+    static final int MAX_SIZE = 100;
+
+    private final ReactiveTodoRepository repository;
+    private final TodoSearchIndex todoSearchIndex;
+    private final ViewCountAggregator viewCountAggregator;
+
+    /**
+     * ========================================
+     * 목록 / 검색 (최신순, 커서)
+     * ========================================
+     * - GET /api/todos?keyword=&completed=&author=&createdFrom=&createdTo=&updatedFrom=&updatedTo=&cursor=&size=
+     * - 검색어가 있으면 검색 색인에서 ID를 찾아 조회, 없으면 DB 조건 조회
+     */
+    Mono<ServerResponse> list(ServerRequest request) {
+        return Mono.defer(() -> {
+            TodoFilter filter = filter(request);
+            TodoCursor cursor = request.queryParam("cursor")
+                    .filter(token -> !token.isEmpty())
+                    .map(ReactiveTodoHandler::forwardCursor)
+                    .orElse(null);
+            int size = size(request);
+
+            Flux<TodoSummary> summaries;
+            if (filter.hasKeyword()) {
+                List<Long> ids = todoSearchIndex.searchSlice(filter, cursor, size);
+                summaries = repository.findSummariesByIdIn(ids);
+            } else {
+                summaries = repository.findSummarySlice(filter, cursor, size);
+            }
+            Flux<TodoListItem> items = summaries.map(summary -> TodoListItem.of(withPendingViews(summary)));
+            return stream(request, items, TodoListItem.class);
+        });
+    }
+
+    /**
+     * ========================================
+     * 상세 (조회수 증가)
+     * ========================================
+     * - GET /api/todos/{id}, 댓글은 /api/todos/{id}/comments로 따로 조회
+     */
+    Mono<ServerResponse> detail(ServerRequest request) {
+        return Mono.defer(() -> {
+            Long id = id(request);
+            return repository.findById(id)
+                    .flatMap(todo -> {
+                        viewCountAggregator.increment(id);
+                        todo.setViewCount(todo.getViewCount() + viewCountAggregator.getPendingCount(id));
+                        return ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(todo);
+                    })
+                    .switchIfEmpty(ServerResponse.notFound().build());
+        });
+    }
+
+    /**
+     * ========================================
+     * 댓글 (작성순)
+     * ========================================
+     * - GET /api/todos/{id}/comments
+     */
+    Mono<ServerResponse> comments(ServerRequest request) {
+        return Mono.defer(() -> {
+            Long id = id(request);
+            return repository.existsById(id)
+                    .flatMap(exists -> exists
+                            ? stream(request, repository.findComments(id), CommentResponse.class)
+                            : ServerResponse.notFound().build());
+        });
+    }
+
+    /**
+     * Accept 헤더에 따라 NDJSON 스트림 또는 JSON 배열로 응답
+     */
+    private static <T> Mono<ServerResponse> stream(ServerRequest request, Flux<T> body, Class<T> type) {
+        boolean array = request.headers().accept().contains(MediaType.APPLICATION_JSON);
+        return ServerResponse.ok()
+                .contentType(array ? MediaType.APPLICATION_JSON : MediaType.APPLICATION_NDJSON)
+                .body(body, type);
+    }
+
+    private TodoResponse withPendingViews(TodoSummary summary) {
+        TodoResponse response = TodoResponse.from(summary);
+        response.setViewCount(summary.getViewCount() + viewCountAggregator.getPendingCount(summary.getId()));
+        return response;
+    }
+
+    /**
+     * 쿼리 파라미터를 조회 조건으로 변환 (정렬은 커서 기준인 최신순 고정)
+     */
+    private static TodoFilter filter(ServerRequest request) {
+        return TodoFilter.builder()
+                .keyword(request.queryParam("keyword").orElse(null))
+                .completed(request.queryParam("completed").filter(value -> !value.isEmpty())
+                        .map(Boolean::valueOf).orElse(null))
+                .author(request.queryParam("author").orElse(null))
+                .createdFrom(date(request, "createdFrom"))
+                .createdTo(date(request, "createdTo"))
+                .updatedFrom(date(request, "updatedFrom"))
+                .updatedTo(date(request, "updatedTo"))
+                .build();
+    }
+
+    private static LocalDate date(ServerRequest request, String name) {
+        Optional<String> value = request.queryParam(name).filter(text -> !text.isEmpty());
+        try {
+            return value.map(LocalDate::parse).orElse(null);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("날짜 형식이 올바르지 않습니다 (yyyy-MM-dd): " + name + "=" + value.get(), e);
+        }
+    }
+
+    private static int size(ServerRequest request) {
+        int size = request.queryParam("size").map(ReactiveTodoHandler::parseInt).orElse(DEFAULT_SIZE);
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    static Long id(ServerRequest request) {
+        String value = request.pathVariable("id");
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("숫자가 아닙니다: " + value, e);
+        }
+    }
+
+    private static int parseInt(String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("숫자가 아닙니다: " + value, e);
+        }
+    }
+
+    /**
+     * 이어서 받기용 커서만 허용 (스트림은 한 방향으로만 진행)
+     */
+    private static TodoCursor forwardCursor(String token) {
+        TodoCursor cursor = TodoCursor.decode(token);
+        if (cursor.isBackward()) {
+            throw new IllegalArgumentException("이전 목록 커서는 지원하지 않습니다: " + token);
+        }
+        return cursor;
+    }
+}
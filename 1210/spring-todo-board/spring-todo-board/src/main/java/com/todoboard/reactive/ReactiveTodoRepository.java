@@ -0,0 +1,198 @@
+package com.todoboard.reactive;
+
+import com.todoboard.dto.CommentResponse;
+import com.todoboard.dto.TodoCursor;
+import com.todoboard.dto.TodoFilter;
+import com.todoboard.dto.TodoResponse;
+import com.todoboard.repository.TodoSummary;
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ========================================
+ * 반응형 읽기 전용 조회 (R2DBC)
+ * ========================================
+ * - TodoRepository(JPA)와 같은 테이블/인덱스를 SQL로 직접 조회
+ * - 결과는 행 단위 Flux로 내보내며 구독자가 요청한 만큼만 읽음 (배압)
+ * - 조건/정렬은 TodoFilterRepositoryImpl의 최신순 커서 조회와 같음
+ */
+@RequiredArgsConstructor
+class ReactiveTodoRepository {
+
+    /**
+     * 목록 SELECT 절 (TodoSummary.SELECT와 같은 컬럼, 댓글 수는 서브쿼리)
+     */
+    private static final String SUMMARY_SELECT = "SELECT t.id, t.title, t.excerpt, t.completed, t.author, "
+            + "t.view_count, (SELECT COUNT(*) FROM comments c WHERE c.todo_id = t.id) AS comment_count, "
+            + "t.created_at FROM todos t";
+
+    private static final String LATEST_ORDER = " ORDER BY t.created_at DESC, t.id DESC";
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * 조건 조합 + 커서 이후 목록 (최신순)
+     * @param filter 조회 조건 (검색어 제외)
+     * @param cursor 다음 목록 커서 (null이면 첫 목록)
+     * @param limit 최대 개수
+     */
+    Flux<TodoSummary> findSummarySlice(TodoFilter filter, TodoCursor cursor, int limit) {
+        Conditions conditions = Conditions.of(filter);
+        if (cursor != null) {
+            // 앞의 범위 조건으로 인덱스 범위 스캔, 괄호 안 조건은 같은 일시의 ID 순서만 걸러냄
+            conditions.add("t.created_at <= :cursorCreatedAt");
+            conditions.add("(t.created_at < :cursorCreatedAt OR t.id < :cursorId)");
+            conditions.param("cursorCreatedAt", cursor.getCreatedAt());
+            conditions.param("cursorId", cursor.getId());
+        }
+        conditions.param("limit", limit);
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(
+                SUMMARY_SELECT + conditions.where() + LATEST_ORDER + " LIMIT :limit");
+        return conditions.bind(spec)
+                .map(ReactiveTodoRepository::toSummary)
+                .all();
+    }
+
+    /**
+     * ID 목록의 게시글 요약 (최신순, 검색 색인 결과 조회용)
+     */
+    Flux<TodoSummary> findSummariesByIdIn(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Flux.empty();
+        }
+        return databaseClient.sql(SUMMARY_SELECT + " WHERE t.id IN (:ids)" + LATEST_ORDER)
+                .bind("ids", ids)
+                .map(ReactiveTodoRepository::toSummary)
+                .all();
+    }
+
+    /**
+     * 게시글 한 건 (내용 + 댓글 수, 없으면 빈 Mono)
+     */
+    Mono<TodoResponse> findById(Long id) {
+        return databaseClient.sql("SELECT t.id, t.title, t.content, t.excerpt, t.completed, t.author, t.view_count, "
+                        + "(SELECT COUNT(*) FROM comments c WHERE c.todo_id = t.id) AS comment_count, "
+                        + "t.created_at, t.updated_at FROM todos t WHERE t.id = :id")
+                .bind("id", id)
+                .map(row -> TodoResponse.builder()
+                        .id(row.get("id", Long.class))
+                        .title(row.get("title", String.class))
+                        .content(row.get("content", String.class))
+                        .excerpt(row.get("excerpt", String.class))
+                        .completed(row.get("completed", Boolean.class))
+                        .author(row.get("author", String.class))
+                        .viewCount(row.get("view_count", Long.class))
+                        .commentCount(row.get("comment_count", Long.class).intValue())
+                        .createdAt(row.get("created_at", LocalDateTime.class))
+                        .updatedAt(row.get("updated_at", LocalDateTime.class))
+                        .build())
+                .one();
+    }
+
+    /**
+     * 게시글 존재 여부
+     */
+    Mono<Boolean> existsById(Long id) {
+        return databaseClient.sql("SELECT 1 FROM todos WHERE id = :id")
+                .bind("id", id)
+                .map(row -> Boolean.TRUE)
+                .first()
+                .defaultIfEmpty(Boolean.FALSE);
+    }
+
+    /**
+     * 게시글의 댓글 (작성순, idx_comments_todo_id_created_at 사용)
+     */
+    Flux<CommentResponse> findComments(Long todoId) {
+        return databaseClient.sql("SELECT id, content, author, created_at, updated_at FROM comments "
+                        + "WHERE todo_id = :todoId ORDER BY created_at, id")
+                .bind("todoId", todoId)
+                .map(row -> CommentResponse.builder()
+                        .id(row.get("id", Long.class))
+                        .content(row.get("content", String.class))
+                        .author(row.get("author", String.class))
+                        .createdAt(row.get("created_at", LocalDateTime.class))
+                        .updatedAt(row.get("updated_at", LocalDateTime.class))
+                        .build())
+                .all();
+    }
+
+    private static TodoSummary toSummary(Row row) {
+        return new TodoSummary(
+                row.get("id", Long.class),
+                row.get("title", String.class),
+                row.get("excerpt", String.class),
+                row.get("completed", Boolean.class),
+                row.get("author", String.class),
+                row.get("view_count", Long.class),
+                row.get("comment_count", Long.class),
+                row.get("created_at", LocalDateTime.class));
+    }
+
+    /**
+     * WHERE 조건과 바인딩 파라미터 모음 (TodoFilterRepositoryImpl.Conditions의 SQL 버전)
+     */
+    private static final class Conditions {
+
+        private final List<String> predicates = new ArrayList<>();
+        private final Map<String, Object> params = new LinkedHashMap<>();
+
+        static Conditions of(TodoFilter filter) {
+            Conditions conditions = new Conditions();
+            if (filter.getCompleted() != null) {
+                conditions.add("t.completed = :completed");
+                conditions.param("completed", filter.getCompleted());
+            }
+            if (filter.hasAuthor()) {
+                conditions.add("t.author = :author");
+                conditions.param("author", filter.getAuthor().trim());
+            }
+            if (filter.createdAtLowerBound() != null) {
+                conditions.add("t.created_at >= :createdFrom");
+                conditions.param("createdFrom", filter.createdAtLowerBound());
+            }
+            if (filter.createdAtUpperBound() != null) {
+                conditions.add("t.created_at < :createdTo");
+                conditions.param("createdTo", filter.createdAtUpperBound());
+            }
+            if (filter.updatedAtLowerBound() != null) {
+                conditions.add("t.updated_at >= :updatedFrom");
+                conditions.param("updatedFrom", filter.updatedAtLowerBound());
+            }
+            if (filter.updatedAtUpperBound() != null) {
+                conditions.add("t.updated_at < :updatedTo");
+                conditions.param("updatedTo", filter.updatedAtUpperBound());
+            }
+            return conditions;
+        }
+
+        void add(String predicate) {
+            predicates.add(predicate);
+        }
+
+        void param(String name, Object value) {
+            params.put(name, value);
+        }
+
+        String where() {
+            return predicates.isEmpty() ? "" : " WHERE " + String.join(" AND ", predicates);
+        }
+
+        DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec) {
+            for (Map.Entry<String, Object> param : params.entrySet()) {
+                spec = spec.bind(param.getKey(), param.getValue());
+            }
+            return spec;
+        }
+    }
+}
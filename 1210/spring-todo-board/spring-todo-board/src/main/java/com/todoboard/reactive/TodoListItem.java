@@ -0,0 +1,29 @@
+package com.todoboard.reactive;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.todoboard.dto.TodoCursor;
+import com.todoboard.dto.TodoResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * ========================================
+ * 반응형 API 목록 항목
+ * ========================================
+ * - 게시글 요약 필드 + 이 항목 다음부터 이어서 받을 커서
+ * - 목록을 스트림으로 내보내므로 응답 끝의 nextCursor 대신 항목마다 커서를 담음
+ *   (클라이언트는 마지막으로 받은 항목의 cursor로 다음 목록 요청)
+ */
+@Getter
+@AllArgsConstructor
+public class TodoListItem {
+
+    @JsonUnwrapped
+    private final TodoResponse todo;
+
+    private final String cursor;
+
+    static TodoListItem of(TodoResponse todo) {
+        return new TodoListItem(todo, TodoCursor.next(todo).encode());
+    }
+}
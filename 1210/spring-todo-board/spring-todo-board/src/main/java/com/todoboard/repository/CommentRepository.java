@@ -1,10 +1,21 @@
 package com.todoboard.repository;
 
+import com.todoboard.dto.CommentResponse;
 import com.todoboard.entity.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * ========================================
@@ -17,11 +28,65 @@ import java.util.List;
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     /**
-     * 특정 Todo의 모든 댓글 조회
-     * @param todoId Todo ID
-     * @return 댓글 목록 (생성일 기준 오름차순)
+     * 댓글 목록 SELECT 절 (영속성 컨텍스트에 넣지 않는 DTO 생성자 표현식)
+     */
+    String PAGE_SELECT = "SELECT new com.todoboard.dto.CommentResponse("
+            + "c.id, c.content, c.author, c.createdAt, c.updatedAt) FROM Comment c WHERE c.todo.id = :todoId ";
+
+    /**
+     * 특정 Todo의 첫 댓글 목록 (작성순, 크기는 pageable로 지정, count 쿼리 없음)
+     */
+    @Query(PAGE_SELECT + "ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommentResponse> findPageOldestFirst(@Param("todoId") Long todoId, Pageable pageable);
+
+    /**
+     * 커서 이후 댓글 목록 (작성순)
+     * - 앞의 범위 조건으로 (todo_id, created_at, id) 인덱스 범위 스캔, 괄호 안 조건은 같은 일시의 ID 순서만 걸러냄
+     */
+    @Query(PAGE_SELECT + "AND c.createdAt >= :createdAt AND (c.createdAt > :createdAt OR c.id > :id) "
+            + "ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommentResponse> findPageOldestFirstAfter(@Param("todoId") Long todoId,
+                                                   @Param("createdAt") LocalDateTime createdAt,
+                                                   @Param("id") Long id,
+                                                   Pageable pageable);
+
+    /**
+     * 특정 Todo의 첫 댓글 목록 (최신순)
+     */
+    @Query(PAGE_SELECT + "ORDER BY c.createdAt DESC, c.id DESC")
+    List<CommentResponse> findPageNewestFirst(@Param("todoId") Long todoId, Pageable pageable);
+
+    /**
+     * 커서 이후 댓글 목록 (최신순, (todo_id, created_at DESC, id DESC) 인덱스 사용)
+     */
+    @Query(PAGE_SELECT + "AND c.createdAt <= :createdAt AND (c.createdAt < :createdAt OR c.id < :id) "
+            + "ORDER BY c.createdAt DESC, c.id DESC")
+    List<CommentResponse> findPageNewestFirstAfter(@Param("todoId") Long todoId,
+                                                   @Param("createdAt") LocalDateTime createdAt,
+                                                   @Param("id") Long id,
+                                                   Pageable pageable);
+
+    /**
+     * 게시글의 댓글 일괄 삭제 (게시글 삭제용)
+     * - 댓글을 하나씩 읽어 지우지 않고 (todo_id, ...) 인덱스 범위를 DELETE 한 문장으로 삭제
+     * - 실행 후 영속성 컨텍스트를 비워 삭제된 댓글이 남지 않게 함
+     * @param todoId 게시글 ID
+     * @return 삭제된 댓글 수
      */
-    List<Comment> findByTodoIdOrderByCreatedAtAsc(Long todoId);
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Comment c WHERE c.todo.id = :todoId")
+    int deleteAllByTodoIdInBulk(@Param("todoId") Long todoId);
+
+    /**
+     * 여러 게시글의 댓글 일괄 삭제 (게시글 일괄 삭제용)
+     * @param todoIds 게시글 ID 목록 (한 묶음)
+     * @return 삭제된 댓글 수
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Comment c WHERE c.todo.id IN :todoIds")
+    int deleteAllByTodoIdsInBulk(@Param("todoIds") Collection<Long> todoIds);
 
     /**
      * 특정 Todo의 댓글 개수 조회
@@ -29,4 +94,19 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      * @return 댓글 개수
      */
     Long countByTodoId(Long todoId);
+
+    /**
+     * 전체 댓글을 게시글 ID 순으로 스트리밍 (내보내기용)
+     * - 게시글 스트림(streamAllByOrderById)과 같은 순서로 맞춰 읽으므로 댓글을 모아두지 않음
+     * - (todo_id, created_at, id) 인덱스 순서대로 읽어 정렬 없음
+     * - 트랜잭션 안에서 사용하고 반드시 닫아야 함 (try-with-resources)
+     * @return 댓글 스트림 (게시글 ID, 생성일 기준 오름차순)
+     */
+    @QueryHints({
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_READONLY, value = "true"),
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("SELECT c FROM Comment c ORDER BY c.todo.id, c.createdAt, c.id")
+    Stream<Comment> streamAllByOrderByTodoId();
 }
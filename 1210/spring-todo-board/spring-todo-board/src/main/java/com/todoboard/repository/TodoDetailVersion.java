@@ -0,0 +1,28 @@
+package com.todoboard.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * ========================================
+ * 게시글 상세 화면 검증값 Projection
+ * ========================================
+ * - 조건부 요청(ETag / Last-Modified) 판단용
+ * - 엔티티를 로딩하지 않고 스칼라 값만 한 번의 쿼리로 조회
+ */
+public interface TodoDetailVersion {
+
+    /**
+     * 게시글 수정 일시
+     */
+    LocalDateTime getUpdatedAt();
+
+    /**
+     * 가장 최근 댓글 수정 일시 (댓글이 없으면 null)
+     */
+    LocalDateTime getLatestCommentAt();
+
+    /**
+     * 댓글 개수 (오래된 댓글 삭제처럼 최근 일시가 바뀌지 않는 변경 감지용)
+     */
+    Long getCommentCount();
+}
@@ -0,0 +1,53 @@
+package com.todoboard.repository;
+
+import com.todoboard.dto.TodoCursor;
+import com.todoboard.dto.TodoFilter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * ========================================
+ * 조건 조합 목록 조회 (TodoRepository 확장)
+ * ========================================
+ * - 완료 여부, 작성자, 작성/수정 기간 중 주어진 조건만 WHERE 절에 포함
+ * - 조건마다 메서드를 두지 않고 JPQL 한 개로 조합 (모든 조건은 AND)
+ * - 검색어 조건은 처리하지 않음 (TodoSearchIndex에서 처리)
+ * - todos (completed, created_at), (author, created_at) 등 복합 인덱스 범위 스캔을 전제로 함
+ */
+public interface TodoFilterRepository {
+
+    /**
+     * 조건 조합 목록 조회 (페이징)
+     * @param filter 조회 조건 (정렬 포함)
+     * @param pageable 페이지 번호와 크기 (정렬은 filter 기준)
+     * @return 게시글 요약 페이지
+     */
+    Page<TodoSummary> findSummaries(TodoFilter filter, Pageable pageable);
+
+    /**
+     * 조건 조합 Keyset 조회 (최신순, count 쿼리 없음)
+     * @param filter 조회 조건
+     * @param cursor 커서 (null이면 첫 목록)
+     * @param limit 최대 개수
+     * @return 게시글 요약 목록 (커서 방향 기준 가까운 순: 다음 목록은 최신순, 이전 목록은 오래된 순)
+     */
+    List<TodoSummary> findSummarySlice(TodoFilter filter, TodoCursor cursor, int limit);
+
+    /**
+     * 조건에 맞는 게시글 ID를 ID 순서로 조회 (일괄 처리용 Keyset, 기본키 범위 스캔)
+     * @param filter 조회 조건 (정렬은 무시)
+     * @param afterId 이 ID 다음부터 (처음이면 0)
+     * @param limit 최대 개수
+     * @return 게시글 ID 목록 (오름차순)
+     */
+    List<Long> findIdsAfter(TodoFilter filter, long afterId, int limit);
+
+    /**
+     * 조건에 맞는 게시글 수
+     * @param filter 조회 조건
+     * @return 게시글 수
+     */
+    long countByFilter(TodoFilter filter);
+}
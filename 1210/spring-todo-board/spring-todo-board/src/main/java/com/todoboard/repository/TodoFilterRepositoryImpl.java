@@ -0,0 +1,192 @@
+package com.todoboard.repository;
+
+import com.todoboard.dto.TodoCursor;
+import com.todoboard.dto.TodoFilter;
+import com.todoboard.dto.TodoSort;
+import com.todoboard.entity.Todo;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.QueryHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ========================================
+ * 조건 조합 목록 조회 구현
+ * ========================================
+ * - Spring Data가 이름 규칙(인터페이스명 + Impl)으로 TodoRepository에 연결
+ * - 조건 값은 모두 파라미터로 바인딩 (JPQL 문자열에 값을 넣지 않음)
+ * - 검색어 없는 목록의 앞쪽 CACHED_PAGE_COUNT 페이지와 커서 첫 목록은 하이버네이트 쿼리 캐시 사용
+ *   (조건/정렬/페이지가 같으면 결과를 재사용, todos/comments 테이블이 바뀌면 하이버네이트가 무효화)
+ */
+@RequiredArgsConstructor
+class TodoFilterRepositoryImpl implements TodoFilterRepository {
+
+    /**
+     * 쿼리 캐시를 사용하는 앞쪽 페이지 수 (뒤쪽 페이지는 조회가 드물어 캐시 효과가 적음)
+     */
+    private static final int CACHED_PAGE_COUNT = 3;
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<TodoSummary> findSummaries(TodoFilter filter, Pageable pageable) {
+        Conditions conditions = Conditions.of(filter);
+
+        TypedQuery<TodoSummary> query = entityManager.createQuery(
+                TodoSummary.SELECT + "FROM Todo t" + conditions.where() + orderBy(filter.effectiveSort()),
+                TodoSummary.class);
+        conditions.bind(query);
+        boolean firstPages = pageable.getPageNumber() < CACHED_PAGE_COUNT;
+        if (firstPages) {
+            cacheFirstPages(query);
+        }
+        List<TodoSummary> content = query
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        // 첫 페이지가 다 차지 않으면 count 쿼리 생략
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            TypedQuery<Long> count = entityManager.createQuery(
+                    "SELECT COUNT(t) FROM Todo t" + conditions.where(), Long.class);
+            conditions.bind(count);
+            if (firstPages) {
+                cacheFirstPages(count);
+            }
+            return count.getSingleResult();
+        });
+    }
+
+    @Override
+    public List<TodoSummary> findSummarySlice(TodoFilter filter, TodoCursor cursor, int limit) {
+        Conditions conditions = Conditions.of(filter);
+        String orderBy = orderBy(TodoSort.LATEST);
+        if (cursor != null) {
+            // 앞의 범위 조건으로 인덱스 범위 스캔, 괄호 안 조건은 같은 일시의 ID 순서만 걸러냄
+            if (cursor.isBackward()) {
+                conditions.add("t.createdAt >= :cursorCreatedAt");
+                conditions.add("(t.createdAt > :cursorCreatedAt OR t.id > :cursorId)");
+                orderBy = orderBy(TodoSort.OLDEST);
+            } else {
+                conditions.add("t.createdAt <= :cursorCreatedAt");
+                conditions.add("(t.createdAt < :cursorCreatedAt OR t.id < :cursorId)");
+            }
+            conditions.param("cursorCreatedAt", cursor.getCreatedAt());
+            conditions.param("cursorId", cursor.getId());
+        }
+
+        TypedQuery<TodoSummary> query = entityManager.createQuery(
+                TodoSummary.SELECT + "FROM Todo t" + conditions.where() + orderBy, TodoSummary.class);
+        conditions.bind(query);
+        if (cursor == null) {
+            cacheFirstPages(query);
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public List<Long> findIdsAfter(TodoFilter filter, long afterId, int limit) {
+        Conditions conditions = Conditions.of(filter);
+        conditions.add("t.id > :afterId");
+        conditions.param("afterId", afterId);
+
+        TypedQuery<Long> query = entityManager.createQuery(
+                "SELECT t.id FROM Todo t" + conditions.where() + " ORDER BY t.id", Long.class);
+        conditions.bind(query);
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public long countByFilter(TodoFilter filter) {
+        Conditions conditions = Conditions.of(filter);
+
+        TypedQuery<Long> query = entityManager.createQuery(
+                "SELECT COUNT(t) FROM Todo t" + conditions.where(), Long.class);
+        conditions.bind(query);
+        return query.getSingleResult();
+    }
+
+    /**
+     * 목록 앞쪽 페이지 쿼리 캐시 리전 사용 (리전 크기/만료는 SecondLevelCacheConfig)
+     */
+    private static void cacheFirstPages(TypedQuery<?> query) {
+        query.setHint(QueryHints.HINT_CACHEABLE, true);
+        query.setHint(QueryHints.HINT_CACHE_REGION, Todo.FIRST_PAGES_CACHE_REGION);
+    }
+
+    /**
+     * 정렬 기준별 ORDER BY 절 (관련도순은 호출 전에 최신순으로 대체됨)
+     */
+    private static String orderBy(TodoSort sort) {
+        switch (sort) {
+            case OLDEST:
+                return " ORDER BY t.createdAt ASC, t.id ASC";
+            case UPDATED:
+                return " ORDER BY t.updatedAt DESC, t.id DESC";
+            default:
+                return " ORDER BY t.createdAt DESC, t.id DESC";
+        }
+    }
+
+    /**
+     * WHERE 조건과 바인딩 파라미터 모음
+     */
+    private static final class Conditions {
+
+        private final List<String> predicates = new ArrayList<>();
+        private final Map<String, Object> params = new LinkedHashMap<>();
+
+        static Conditions of(TodoFilter filter) {
+            Conditions conditions = new Conditions();
+            if (filter.getCompleted() != null) {
+                conditions.add("t.completed = :completed");
+                conditions.param("completed", filter.getCompleted());
+            }
+            if (filter.hasAuthor()) {
+                conditions.add("t.author = :author");
+                conditions.param("author", filter.getAuthor().trim());
+            }
+            if (filter.createdAtLowerBound() != null) {
+                conditions.add("t.createdAt >= :createdFrom");
+                conditions.param("createdFrom", filter.createdAtLowerBound());
+            }
+            if (filter.createdAtUpperBound() != null) {
+                conditions.add("t.createdAt < :createdTo");
+                conditions.param("createdTo", filter.createdAtUpperBound());
+            }
+            if (filter.updatedAtLowerBound() != null) {
+                conditions.add("t.updatedAt >= :updatedFrom");
+                conditions.param("updatedFrom", filter.updatedAtLowerBound());
+            }
+            if (filter.updatedAtUpperBound() != null) {
+                conditions.add("t.updatedAt < :updatedTo");
+                conditions.param("updatedTo", filter.updatedAtUpperBound());
+            }
+            return conditions;
+        }
+
+        void add(String predicate) {
+            predicates.add(predicate);
+        }
+
+        void param(String name, Object value) {
+            params.put(name, value);
+        }
+
+        String where() {
+            return predicates.isEmpty() ? "" : " WHERE " + String.join(" AND ", predicates);
+        }
+
+        void bind(TypedQuery<?> query) {
+            params.forEach(query::setParameter);
+        }
+    }
+}
@@ -1,12 +1,22 @@
 package com.todoboard.repository;
 
 import com.todoboard.entity.Todo;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * ========================================
@@ -14,50 +24,119 @@ import org.springframework.stereotype.Repository;
  * ========================================
  * - To-Do 엔티티에 대한 데이터베이스 접근 계층
  * - JpaRepository 상속으로 기본 CRUD 메서드 제공
- * - 커스텀 검색 메서드 정의
+ * - 조건 조합 목록 조회는 TodoFilterRepository(구현: TodoFilterRepositoryImpl)
  */
 @Repository
-public interface TodoRepository extends JpaRepository<Todo, Long> {
+public interface TodoRepository extends JpaRepository<Todo, Long>, TodoFilterRepository {
+
+    /**
+     * ========================================
+     * 목록용 Projection 조회 (TodoSummary)
+     * ========================================
+     * - 목록/검색/필터 화면 전용, 엔티티 대신 필요한 컬럼만 조회
+     * - 조건 조합 목록/Keyset 조회는 TodoFilterRepository
+     */
+
+    /**
+     * ID 목록으로 조회 (검색 결과, 순서는 호출 측에서 맞춤)
+     * @param ids 게시글 ID 목록
+     * @return 게시글 요약 목록
+     */
+    @Query(TodoSummary.SELECT + "FROM Todo t WHERE t.id IN :ids")
+    List<TodoSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 저장된 조회수 조회 (목록 화면용, 목록 조회 결과에는 조회수가 없음)
+     * @param ids 게시글 ID 목록
+     * @return 게시글 ID와 조회수 (없는 게시글은 제외)
+     */
+    @Query("SELECT t.id AS id, t.viewCount AS viewCount FROM Todo t WHERE t.id IN :ids")
+    List<TodoViewCount> findViewCountsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 상세 화면 검증값 조회 (조건부 요청용, 엔티티 로딩 없음)
+     * @param id 게시글 ID
+     * @return 수정 일시, 최근 댓글 일시, 댓글 개수 (게시글이 없으면 empty)
+     */
+    @Query("SELECT t.updatedAt AS updatedAt, " +
+            "(SELECT MAX(c.updatedAt) FROM Comment c WHERE c.todo = t) AS latestCommentAt, " +
+            "(SELECT COUNT(c) FROM Comment c WHERE c.todo = t) AS commentCount " +
+            "FROM Todo t WHERE t.id = :id")
+    Optional<TodoDetailVersion> findDetailVersionById(@Param("id") Long id);
+
+    /**
+     * ========================================
+     * UPDATE/DELETE 문 (엔티티 로딩 없음, 일괄 완료와 삭제)
+     * ========================================
+     * - JPQL 한 문장으로 변경/삭제하고 바뀐 행 수만 반환
+     * - 버전(@Version)은 문장 안에서 올리고, 수정 일시는 Auditing을 거치지 않으므로 호출 측에서 전달
+     * - 실행 전 영속성 컨텍스트를 반영하고 실행 후 비움 (이미 로딩된 게시글이 이전 상태로 남지 않게)
+     * - 하이버네이트가 게시글 2차 캐시 리전 전체를 비우고 todos 테이블 변경 시각을 갱신하므로
+     *   목록 앞쪽 페이지 쿼리 캐시도 커밋 전부터 무효 (단건 수정/토글은 변경 감지로 해당 항목만 갱신)
+     */
 
     /**
-     * 제목으로 검색 (페이징)
-     * @param title 검색할 제목 (부분 일치)
-     * @param pageable 페이징 정보
-     * @return 검색 결과 페이지
+     * 완료 여부를 바꿀 게시글 ID 잠금 조회 (일괄 처리용, updateCompletedIn 앞에 같은 트랜잭션에서 호출)
+     * - 이미 같은 상태인 게시글은 제외하고, 커밋까지 다른 트랜잭션이 상태를 바꾸지 못하도록 행 잠금 (SELECT ... FOR UPDATE)
+     * @param ids 게시글 ID 목록 (한 묶음)
+     * @param completed 변경할 완료 여부
+     * @return 상태가 실제로 바뀔 게시글 ID 목록 (오름차순, 잠금 순서 고정)
      */
-    Page<Todo> findByTitleContaining(String title, Pageable pageable);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t.id FROM Todo t WHERE t.id IN :ids AND t.completed <> :completed ORDER BY t.id")
+    List<Long> findIdsForCompletedChange(@Param("ids") Collection<Long> ids,
+                                         @Param("completed") boolean completed);
 
     /**
-     * 내용으로 검색 (페이징)
-     * @param content 검색할 내용 (부분 일치)
-     * @param pageable 페이징 정보
-     * @return 검색 결과 페이지
+     * 여러 게시글의 완료 여부 일괄 변경 (일괄 처리용, 대상은 findIdsForCompletedChange로 잠근 ID)
+     * @param ids 게시글 ID 목록
+     * @param completed 변경할 완료 여부
+     * @param now 수정 일시
+     * @return 변경된 행 수
      */
-    Page<Todo> findByContentContaining(String content, Pageable pageable);
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Todo t SET t.completed = :completed, t.version = t.version + 1, t.updatedAt = :now "
+            + "WHERE t.id IN :ids")
+    int updateCompletedIn(@Param("ids") Collection<Long> ids,
+                          @Param("completed") boolean completed,
+                          @Param("now") LocalDateTime now);
 
     /**
-     * 작성자로 검색 (페이징)
-     * @param author 검색할 작성자명
-     * @param pageable 페이징 정보
-     * @return 검색 결과 페이지
+     * 게시글 삭제 (엔티티를 읽지 않는 DELETE 한 문장)
+     * - 댓글은 CommentRepository.deleteAllByTodoIdInBulk로 먼저 삭제해야 함 (Cascade를 거치지 않음)
+     * - 실행 후 영속성 컨텍스트를 비워 삭제된 게시글이 남지 않게 함
+     * @param id 게시글 ID
+     * @return 삭제된 행 수 (게시글이 없으면 0)
      */
-    Page<Todo> findByAuthorContaining(String author, Pageable pageable);
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Todo t WHERE t.id = :id")
+    int deleteByIdInBulk(@Param("id") Long id);
 
     /**
-     * 완료 여부로 검색 (페이징)
-     * @param completed 완료 여부
-     * @param pageable 페이징 정보
-     * @return 검색 결과 페이지
+     * 여러 게시글 삭제 (일괄 처리용, 댓글은 CommentRepository.deleteAllByTodoIdsInBulk로 먼저 삭제)
+     * @param ids 게시글 ID 목록 (한 묶음)
+     * @return 삭제된 행 수
      */
-    Page<Todo> findByCompleted(Boolean completed, Pageable pageable);
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Todo t WHERE t.id IN :ids")
+    int deleteAllByIdInBulk(@Param("ids") Collection<Long> ids);
 
     /**
-     * 제목 또는 내용으로 검색 (페이징)
-     * @param title 검색할 제목
-     * @param content 검색할 내용
-     * @param pageable 페이징 정보
-     * @return 검색 결과 페이지
+     * 전체 게시글 스트리밍 조회 (내보내기용)
+     * - 결과를 한 번에 메모리에 올리지 않고 JDBC fetch size 단위로 읽음
+     * - 읽기 전용 힌트로 변경 감지 스냅샷을 만들지 않음
+     * - 전체 게시글이 2차 캐시를 밀어내지 않도록 캐시를 거치지 않음
+     * - 트랜잭션 안에서 사용하고 반드시 close 해야 함
+     * @return ID 오름차순 게시글 스트림
      */
-    @Query("SELECT t FROM Todo t WHERE t.title LIKE %:keyword% OR t.content LIKE %:keyword%")
-    Page<Todo> searchByTitleOrContent(@Param("keyword") String keyword, Pageable pageable);
+    @QueryHints({
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_READONLY, value = "true"),
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("SELECT t FROM Todo t ORDER BY t.id")
+    Stream<Todo> streamAllByOrderById();
 }
@@ -0,0 +1,46 @@
+package com.todoboard.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * ========================================
+ * 게시글 목록용 Projection
+ * ========================================
+ * - 목록/검색/필터 화면에 필요한 컬럼만 조회 (TEXT 내용 대신 저장된 요약)
+ * - JPQL 생성자 표현식으로 만들어지므로 영속성 컨텍스트에 들어가지 않음
+ *   (엔티티, 변경 감지 스냅샷, 지연 로딩 프록시 없음)
+ * - 댓글 수는 같은 쿼리의 서브쿼리로 함께 조회
+ * - JPQL 조회 결과에는 조회수가 없음 (목록 앞쪽 페이지 쿼리 캐시에 오래된 조회수가 남지 않게,
+ *   목록 화면은 GET /todos/views로 따로 조회), 반응형 API(R2DBC)는 조회수까지 함께 조회
+ */
+@Getter
+@AllArgsConstructor
+public class TodoSummary {
+
+    /**
+     * JPQL SELECT 절 (TodoRepository 쿼리에서 공통 사용, 별칭 t = Todo)
+     */
+    static final String SELECT = "SELECT new com.todoboard.repository.TodoSummary("
+            + "t.id, t.title, t.excerpt, t.completed, t.author, "
+            + "(SELECT COUNT(c) FROM Comment c WHERE c.todo = t), t.createdAt) ";
+
+    private final Long id;
+    private final String title;
+    private final String excerpt;
+    private final Boolean completed;
+    private final String author;
+    private final Long viewCount;
+    private final Long commentCount;
+    private final LocalDateTime createdAt;
+
+    /**
+     * JPQL 생성자 표현식용 (조회수 없음)
+     */
+    public TodoSummary(Long id, String title, String excerpt, Boolean completed, String author,
+                       Long commentCount, LocalDateTime createdAt) {
+        this(id, title, excerpt, completed, author, null, commentCount, createdAt);
+    }
+}
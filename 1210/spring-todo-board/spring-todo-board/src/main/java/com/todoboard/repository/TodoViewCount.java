@@ -0,0 +1,21 @@
+package com.todoboard.repository;
+
+/**
+ * ========================================
+ * 게시글 조회수 Projection
+ * ========================================
+ * - 목록 화면 조회수 조회용 (TodoRepository.findViewCountsByIdIn)
+ * - 엔티티를 로딩하지 않고 스칼라 값만 조회
+ */
+public interface TodoViewCount {
+
+    /**
+     * 게시글 ID
+     */
+    Long getId();
+
+    /**
+     * DB에 저장된 조회수 (대기 중인 조회수 제외)
+     */
+    Long getViewCount();
+}
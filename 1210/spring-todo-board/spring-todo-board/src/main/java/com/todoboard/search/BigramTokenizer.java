@@ -0,0 +1,82 @@
+package com.todoboard.search;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ========================================
+ * 문자 Bigram 토크나이저
+ * ========================================
+ * - 한글처럼 띄어쓰기/조사로 단어 경계가 모호한 텍스트를 위해 글자 단위 2-gram 사용
+ * - 공백과 문장부호로 나눈 구간마다 1-gram과 2-gram을 생성
+ * - 영문은 소문자로 정규화
+ */
+public final class BigramTokenizer {
+
+    private BigramTokenizer() {
+    }
+
+    /**
+     * 문서 토큰화 (색인용)
+     * @param text 원문
+     * @return 토큰별 출현 횟수
+     */
+    public static Map<String, Integer> termFrequencies(String text) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        if (text == null) {
+            return frequencies;
+        }
+        for (String run : runs(text)) {
+            int[] codePoints = run.codePoints().toArray();
+            for (int i = 0; i < codePoints.length; i++) {
+                // 1-gram: 한 글자 검색 지원
+                frequencies.merge(new String(codePoints, i, 1), 1, Integer::sum);
+                // 2-gram
+                if (i + 1 < codePoints.length) {
+                    frequencies.merge(new String(codePoints, i, 2), 1, Integer::sum);
+                }
+            }
+        }
+        return frequencies;
+    }
+
+    /**
+     * 검색어 토큰화
+     * - 두 글자 이상인 구간은 2-gram만, 한 글자 구간은 1-gram 사용
+     * @param keyword 검색어
+     * @return 검색 토큰 (중복 제거)
+     */
+    public static Set<String> queryTerms(String keyword) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (keyword == null) {
+            return terms;
+        }
+        for (String run : runs(keyword)) {
+            int[] codePoints = run.codePoints().toArray();
+            if (codePoints.length == 1) {
+                terms.add(run);
+                continue;
+            }
+            for (int i = 0; i + 1 < codePoints.length; i++) {
+                terms.add(new String(codePoints, i, 2));
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * 공백/문장부호 기준으로 구간 분리
+     */
+    private static String[] runs(String text) {
+        String normalized = text.toLowerCase().trim();
+        if (normalized.isEmpty()) {
+            return new String[0];
+        }
+        return Arrays.stream(normalized.split("[\\s\\p{Punct}]+"))
+                .filter(run -> !run.isEmpty())
+                .toArray(String[]::new);
+    }
+}
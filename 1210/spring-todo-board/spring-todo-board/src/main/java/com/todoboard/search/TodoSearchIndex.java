@@ -0,0 +1,609 @@
+package com.todoboard.search;
+
+import com.todoboard.cache.BoardVersions;
+import com.todoboard.datasource.ReadConsistency;
+import com.todoboard.dto.TodoCursor;
+import com.todoboard.dto.TodoFilter;
+import com.todoboard.dto.TodoSort;
+import com.todoboard.entity.Todo;
+import com.todoboard.repository.TodoRepository;
+import com.todoboard.transaction.AfterCommit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * ========================================
+ * To-Do 검색 역색인 (In-Process)
+ * ========================================
+ * - 제목/내용을 BigramTokenizer로 토큰화하여 메모리 역색인 유지
+ * - LIKE '%keyword%' 전체 스캔 대신 색인에서 후보를 찾고 점수순 정렬
+ * - 완료 여부/작성자/작성·수정 일시도 함께 보관하여 검색어 + 다른 조건 조합을 메모리에서 처리
+ * - 게시글 생성/수정/삭제/완료 토글 시 트랜잭션 커밋 후 증분 갱신
+ * - 애플리케이션 시작 시 DB 전체를 읽어 새 색인을 만든 뒤 한 번에 교체
+ */
+@Slf4j
+@Component
+public class TodoSearchIndex {
+
+    /**
+     * 제목 토큰 가중치 (내용 대비)
+     */
+    private static final int TITLE_WEIGHT = 2;
+
+    /**
+     * 재구성 시 영속성 컨텍스트 정리 단위
+     */
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final TodoRepository todoRepository;
+    private final BoardVersions boardVersions;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 토큰 -> (게시글 ID -> 가중 출현 횟수)
+     * - 아래 세 맵은 재구성 시 통째로 교체되므로 final이 아님 (잠금 안에서만 접근)
+     */
+    private Map<String, Map<Long, Integer>> postings = new HashMap<>();
+
+    /**
+     * 게시글 ID -> 색인된 토큰 (삭제/재색인 시 사용)
+     */
+    private Map<Long, Set<String>> documentTerms = new HashMap<>();
+
+    /**
+     * 게시글 ID -> 필터/정렬용 속성 (완료 여부, 작성자, 작성/수정 일시)
+     */
+    private Map<Long, DocumentAttributes> documentAttributes = new HashMap<>();
+
+    /**
+     * 재구성 중에 증분 갱신된 게시글 ID (재구성 중이 아니면 null, 쓰기 잠금 안에서만 접근)
+     */
+    private Set<Long> changedDuringRebuild;
+
+    public TodoSearchIndex(TodoRepository todoRepository,
+                           BoardVersions boardVersions,
+                           EntityManager entityManager,
+                           PlatformTransactionManager transactionManager) {
+        this.todoRepository = todoRepository;
+        this.boardVersions = boardVersions;
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * ========================================
+     * 시작 시 색인 재구성
+     * ========================================
+     * - 기존 색인은 그대로 두고 새 맵에 구성한 뒤 쓰기 잠금 안에서 교체 (재구성 중에도 검색은 이전 색인 사용)
+     * - DB 커서를 ID 순 스트림으로 읽음 (OFFSET 페이징과 페이지마다 count 쿼리 없음)
+     * - 재구성 중 커밋된 증분 갱신은 교체 후 해당 게시글만 DB에서 다시 읽어 반영
+     * - 교체 후 게시판 버전을 올려 재구성 전 색인으로 만든 화면 조각 캐시를 무효화
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<String, Map<Long, Integer>> newPostings = new HashMap<>();
+        Map<Long, Set<String>> newDocumentTerms = new HashMap<>();
+        Map<Long, DocumentAttributes> newDocumentAttributes = new HashMap<>();
+        try {
+            // 색인은 이후 커밋 후 갱신만 반영하므로 복제 지연 없이 주 DB에서 읽음
+            ReadConsistency.runOnPrimary(() -> readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<Todo> todos = todoRepository.streamAllByOrderById()) {
+                    Iterator<Todo> iterator = todos.iterator();
+                    for (int read = 1; iterator.hasNext(); read++) {
+                        Todo todo = iterator.next();
+                        add(newPostings, newDocumentTerms, newDocumentAttributes,
+                                todo.getId(), weightsOf(todo), DocumentAttributes.of(todo));
+                        if (read % REBUILD_BATCH_SIZE == 0) {
+                            entityManager.clear(); // 읽은 엔티티를 영속성 컨텍스트에서 분리하여 메모리 해제
+                        }
+                    }
+                }
+            }));
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                changedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        // 교체와 변경 목록 회수를 같은 잠금 안에서 처리 (사이에 들어온 갱신이 이전 맵에만 반영되지 않도록)
+        Set<Long> changed;
+        lock.writeLock().lock();
+        try {
+            postings = newPostings;
+            documentTerms = newDocumentTerms;
+            documentAttributes = newDocumentAttributes;
+            changed = changedDuringRebuild;
+            changedDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        // 스트림이 이미 지나간 뒤 바뀐 게시글은 현재 DB 값으로 다시 반영
+        ReadConsistency.runOnPrimary(() -> changed.forEach(id -> readOnlyTransaction.executeWithoutResult(status ->
+                todoRepository.findById(id).ifPresentOrElse(this::index, () -> remove(id)))));
+        boardVersions.bump(null);
+
+        log.info("검색 색인 구성 완료. 게시글 수: {}, 토큰 수: {}, 재구성 중 변경: {}",
+                documentCount(), termCount(), changed.size());
+    }
+
+    /**
+     * 트랜잭션 커밋 후 게시글 색인 (롤백 시 색인하지 않음)
+     * - 수정 일시는 flush 시점에 채워지므로 커밋 후에 읽음
+     * @param todo 색인할 게시글
+     */
+    public void indexAfterCommit(Todo todo) {
+        AfterCommit.run(() -> index(todo));
+    }
+
+    /**
+     * 트랜잭션 커밋 후 필터/정렬용 속성만 갱신 (완료 토글 등 제목/내용이 그대로인 변경)
+     * @param todo 변경된 게시글
+     */
+    public void refreshAttributesAfterCommit(Todo todo) {
+        AfterCommit.run(() -> {
+            DocumentAttributes attributes = DocumentAttributes.of(todo);
+            lock.writeLock().lock();
+            try {
+                // 커밋 사이에 삭제된 게시글은 다시 추가하지 않음
+                documentAttributes.computeIfPresent(todo.getId(), (id, previous) -> attributes);
+                markChanged(todo.getId());
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * 트랜잭션 커밋 후 여러 게시글의 완료 여부만 갱신 (일괄 처리 한 묶음, 쓰기 잠금 한 번)
+     * @param ids 변경된 게시글 ID 목록
+     * @param completed 변경된 완료 여부
+     * @param updatedAt 변경된 수정 일시
+     */
+    public void updateCompletedAfterCommit(Collection<Long> ids, boolean completed, LocalDateTime updatedAt) {
+        AfterCommit.run(() -> {
+            lock.writeLock().lock();
+            try {
+                for (Long id : ids) {
+                    documentAttributes.computeIfPresent(id,
+                            (key, previous) -> previous.withCompleted(completed, updatedAt));
+                    markChanged(id);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * 트랜잭션 커밋 후 게시글 색인 제거
+     * @param id 게시글 ID
+     */
+    public void removeAfterCommit(Long id) {
+        AfterCommit.run(() -> remove(id));
+    }
+
+    /**
+     * 트랜잭션 커밋 후 여러 게시글 색인 제거 (일괄 처리 한 묶음, 쓰기 잠금 한 번)
+     * @param ids 게시글 ID 목록
+     */
+    public void removeAllAfterCommit(Collection<Long> ids) {
+        AfterCommit.run(() -> {
+            lock.writeLock().lock();
+            try {
+                ids.forEach(this::removeInternal);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * 게시글 색인 (이미 색인된 경우 교체)
+     * @param todo 색인할 게시글 (ID, 생성 일시가 채워진 상태)
+     */
+    public void index(Todo todo) {
+        Long id = todo.getId();
+        DocumentAttributes attributes = DocumentAttributes.of(todo);
+        Map<String, Integer> weights = weightsOf(todo); // 토큰화는 잠금 밖에서 수행
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            add(postings, documentTerms, documentAttributes, id, weights, attributes);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글 색인 제거
+     * @param id 게시글 ID
+     */
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * ========================================
+     * 조건 조합 검색 (페이징)
+     * ========================================
+     * - 검색어의 모든 토큰을 포함하고 나머지 조건(완료 여부, 작성자, 기간)도 만족하는 게시글만 포함
+     * - 정렬: filter 기준 (관련도순이면 점수순)
+     * @param filter 조회 조건 (검색어 필수)
+     * @param pageable 페이지 번호와 크기
+     * @return 게시글 ID 페이지
+     */
+    public Page<Long> search(TodoFilter filter, Pageable pageable) {
+        List<Long> ranked;
+        lock.readLock().lock();
+        try {
+            TodoSort sort = filter.effectiveSort();
+            ranked = sort == TodoSort.RELEVANCE
+                    ? rank(filter.getKeyword().trim()).stream()
+                            .filter(id -> accepts(id, filter))
+                            .collect(Collectors.toList())
+                    : matches(filter).stream()
+                            .sorted(comparator(sort))
+                            .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+        int from = (int) Math.min(pageable.getOffset(), ranked.size());
+        int to = Math.min(from + pageable.getPageSize(), ranked.size());
+        return new PageImpl<>(new ArrayList<>(ranked.subList(from, to)), pageable, ranked.size());
+    }
+
+    /**
+     * ========================================
+     * 검색 (점수순 전체 결과)
+     * ========================================
+     * - 점수: 토큰별 (1 + log(가중 출현 횟수)) * IDF 합계, 동점이면 최신(ID 큰) 순
+     * @param keyword 검색어
+     * @return 점수순 게시글 ID 목록
+     */
+    public List<Long> search(String keyword) {
+        lock.readLock().lock();
+        try {
+            return rank(keyword);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * ========================================
+     * 조건 조합 검색 (커서 기반, 최신순)
+     * ========================================
+     * - (createdAt, id) 커서 기준으로 다음/이전 목록의 ID 조회
+     * - 다음 목록 존재 여부 판단을 위해 limit보다 하나 더 요청하여 사용
+     * @param filter 조회 조건 (검색어 필수, 정렬은 최신순으로 고정)
+     * @param cursor 커서 (null이면 첫 목록)
+     * @param limit 최대 개수
+     * @return 게시글 ID 목록 (커서 방향 기준 가까운 순: 다음 목록은 최신순, 이전 목록은 오래된 순)
+     */
+    public List<Long> searchSlice(TodoFilter filter, TodoCursor cursor, int limit) {
+        boolean backward = cursor != null && cursor.isBackward();
+        Comparator<Long> order = comparator(backward ? TodoSort.OLDEST : TodoSort.LATEST);
+
+        lock.readLock().lock();
+        try {
+            return matches(filter).stream()
+                    .filter(id -> cursor == null || (backward
+                            ? cursor.isAfter(documentAttributes.get(id).createdAt, id)
+                            : cursor.isBefore(documentAttributes.get(id).createdAt, id)))
+                    .sorted(order)
+                    .limit(limit)
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * ========================================
+     * 조건 조합 검색 (전체 ID)
+     * ========================================
+     * - 검색어와 나머지 조건을 만족하는 모든 게시글 ID (일괄 처리 대상 선택용)
+     * @param filter 조회 조건 (검색어 필수, 정렬은 무시)
+     * @return 게시글 ID 목록 (오름차순)
+     */
+    public List<Long> searchIds(TodoFilter filter) {
+        List<Long> ids;
+        lock.readLock().lock();
+        try {
+            ids = matches(filter);
+        } finally {
+            lock.readLock().unlock();
+        }
+        ids.sort(Comparator.naturalOrder());
+        return ids;
+    }
+
+    /**
+     * 색인된 게시글 수
+     */
+    public int documentCount() {
+        lock.readLock().lock();
+        try {
+            return documentTerms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 토큰 수
+     */
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 점수순 검색 결과 (읽기 잠금 보유 상태에서 호출)
+     * - 점수: 토큰별 (1 + log(가중 출현 횟수)) * IDF 합계, 동점이면 최신(ID 큰) 순
+     */
+    private List<Long> rank(String keyword) {
+        Set<String> terms = BigramTokenizer.queryTerms(keyword);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        List<Map<Long, Integer>> lists = postingLists(terms);
+        if (lists.isEmpty()) {
+            return List.of();
+        }
+
+        int documentCount = documentTerms.size();
+        double[] idf = lists.stream()
+                .mapToDouble(list -> Math.log(1.0 + (double) documentCount / list.size()))
+                .toArray();
+
+        Map<Long, Double> scores = new HashMap<>();
+        candidates:
+        for (Map.Entry<Long, Integer> entry : lists.get(0).entrySet()) {
+            Long id = entry.getKey();
+            double score = (1 + Math.log(entry.getValue())) * idf[0];
+            for (int i = 1; i < lists.size(); i++) {
+                Integer weight = lists.get(i).get(id);
+                if (weight == null) {
+                    continue candidates;
+                }
+                score += (1 + Math.log(weight)) * idf[i];
+            }
+            scores.put(id, score);
+        }
+
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed()))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 검색어를 포함하고 나머지 조건도 만족하는 게시글 ID (읽기 잠금 보유 상태에서 호출)
+     */
+    private List<Long> matches(TodoFilter filter) {
+        List<Long> ids = matches(filter.getKeyword().trim());
+        ids.removeIf(id -> !accepts(id, filter));
+        return ids;
+    }
+
+    /**
+     * 검색어 외 조건(완료 여부, 작성자, 기간) 만족 여부 (읽기 잠금 보유 상태에서 호출)
+     */
+    private boolean accepts(Long id, TodoFilter filter) {
+        DocumentAttributes attributes = documentAttributes.get(id);
+        return attributes != null && attributes.accepts(filter);
+    }
+
+    /**
+     * 검색어의 모든 토큰을 포함하는 게시글 ID (읽기 잠금 보유 상태에서 호출)
+     */
+    private List<Long> matches(String keyword) {
+        List<Map<Long, Integer>> lists = postingLists(BigramTokenizer.queryTerms(keyword));
+        if (lists.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Long> ids = new ArrayList<>();
+        candidates:
+        for (Long id : lists.get(0).keySet()) {
+            for (int i = 1; i < lists.size(); i++) {
+                if (!lists.get(i).containsKey(id)) {
+                    continue candidates;
+                }
+            }
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    /**
+     * 토큰별 Posting 목록 (짧은 순, 없는 토큰이 있으면 빈 목록)
+     */
+    private List<Map<Long, Integer>> postingLists(Set<String> terms) {
+        List<Map<Long, Integer>> lists = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            Map<Long, Integer> list = postings.get(term);
+            if (list == null) {
+                return List.of(); // 없는 토큰이 하나라도 있으면 결과 없음
+            }
+            lists.add(list);
+        }
+        // 가장 짧은 목록부터 교집합 계산
+        lists.sort(Comparator.comparingInt(Map::size));
+        return lists;
+    }
+
+    /**
+     * 정렬 기준별 비교기 (읽기 잠금 보유 상태에서 사용, 관련도순은 사용하지 않음)
+     */
+    private Comparator<Long> comparator(TodoSort sort) {
+        Comparator<Long> byCreatedAt = Comparator.<Long, LocalDateTime>comparing(id -> documentAttributes.get(id).createdAt)
+                .thenComparing(Comparator.naturalOrder());
+        switch (sort) {
+            case OLDEST:
+                return byCreatedAt;
+            case UPDATED:
+                return Comparator.<Long, LocalDateTime>comparing(id -> documentAttributes.get(id).updatedAt,
+                                Comparator.nullsFirst(Comparator.naturalOrder()))
+                        .thenComparing(Comparator.naturalOrder())
+                        .reversed();
+            default:
+                return byCreatedAt.reversed();
+        }
+    }
+
+    /**
+     * 게시글 토큰별 가중 출현 횟수 (제목은 TITLE_WEIGHT배)
+     */
+    private static Map<String, Integer> weightsOf(Todo todo) {
+        Map<String, Integer> weights = new HashMap<>();
+        BigramTokenizer.termFrequencies(todo.getTitle())
+                .forEach((term, frequency) -> weights.merge(term, frequency * TITLE_WEIGHT, Integer::sum));
+        BigramTokenizer.termFrequencies(todo.getContent())
+                .forEach((term, frequency) -> weights.merge(term, frequency, Integer::sum));
+        return weights;
+    }
+
+    /**
+     * 주어진 맵에 게시글 추가 (현재 색인이면 쓰기 잠금 보유 상태에서 호출)
+     */
+    private static void add(Map<String, Map<Long, Integer>> postings,
+                            Map<Long, Set<String>> documentTerms,
+                            Map<Long, DocumentAttributes> documentAttributes,
+                            Long id, Map<String, Integer> weights, DocumentAttributes attributes) {
+        weights.forEach((term, weight) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(id, weight));
+        documentTerms.put(id, weights.keySet());
+        documentAttributes.put(id, attributes);
+    }
+
+    /**
+     * 재구성 중이면 증분 갱신된 게시글 기록 (쓰기 잠금 보유 상태에서 호출)
+     */
+    private void markChanged(Long id) {
+        if (changedDuringRebuild != null) {
+            changedDuringRebuild.add(id);
+        }
+    }
+
+    /**
+     * 색인 제거 (쓰기 잠금 보유 상태에서 호출)
+     */
+    private void removeInternal(Long id) {
+        markChanged(id);
+        documentAttributes.remove(id);
+        Set<String> terms = documentTerms.remove(id);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Map<Long, Integer> list = postings.get(term);
+            if (list != null) {
+                list.remove(id);
+                if (list.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    /**
+     * 필터/정렬용 게시글 속성 (변경 시 통째로 교체)
+     */
+    private static final class DocumentAttributes {
+
+        private final boolean completed;
+        private final String author;
+        private final LocalDateTime createdAt;
+        private final LocalDateTime updatedAt;
+
+        private DocumentAttributes(boolean completed, String author, LocalDateTime createdAt, LocalDateTime updatedAt) {
+            this.completed = completed;
+            this.author = author;
+            this.createdAt = createdAt;
+            this.updatedAt = updatedAt;
+        }
+
+        static DocumentAttributes of(Todo todo) {
+            // DB TIMESTAMP 정밀도(마이크로초)에 맞춰 저장
+            return new DocumentAttributes(
+                    Boolean.TRUE.equals(todo.getCompleted()),
+                    todo.getAuthor(),
+                    todo.getCreatedAt().truncatedTo(ChronoUnit.MICROS),
+                    todo.getUpdatedAt() == null ? null : todo.getUpdatedAt().truncatedTo(ChronoUnit.MICROS));
+        }
+
+        /**
+         * 완료 여부와 수정 일시만 바꾼 속성
+         */
+        DocumentAttributes withCompleted(boolean completed, LocalDateTime updatedAt) {
+            return new DocumentAttributes(completed, author, createdAt, updatedAt.truncatedTo(ChronoUnit.MICROS));
+        }
+
+        boolean accepts(TodoFilter filter) {
+            return (filter.getCompleted() == null || filter.getCompleted() == completed)
+                    && (!filter.hasAuthor() || filter.getAuthor().trim().equals(author))
+                    && inRange(createdAt, filter.createdAtLowerBound(), filter.createdAtUpperBound())
+                    && inRange(updatedAt, filter.updatedAtLowerBound(), filter.updatedAtUpperBound());
+        }
+
+        private static boolean inRange(LocalDateTime value, LocalDateTime from, LocalDateTime to) {
+            if (from == null && to == null) {
+                return true;
+            }
+            return value != null
+                    && (from == null || !value.isBefore(from))
+                    && (to == null || value.isBefore(to));
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.todoboard.server;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * ========================================
+ * 가상 스레드 요청 처리 모드 (선택)
+ * ========================================
+ * - todoboard.virtual-threads.enabled=true (virtual-threads 프로필)일 때만 적용
+ * - Tomcat 요청 처리 스레드 풀 대신 요청마다 가상 스레드 사용
+ *   (컨트롤러 → 서비스 → 리포지토리 호출이 모두 같은 가상 스레드에서 실행)
+ * - JDBC 대기 중에는 캐리어 스레드를 놓아주므로 DB가 느려도 다른 요청이 스레드 부족으로 밀리지 않음
+ * - 동시 실행 수 제한은 스레드 수가 아니라 DB 커넥션 풀 크기(spring.datasource.hikari.maximum-pool-size)
+ * - Java 21 이상 필요 (미만이면 시작 시 실패)
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "todoboard.virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadConfig implements DisposableBean {
+
+    /**
+     * 요청 처리용 가상 스레드 Executor
+     * - 빈으로 등록하지 않음 (Executor 빈이 있으면 스프링 부트 기본 applicationTaskExecutor가 만들어지지 않음)
+     */
+    private final ExecutorService requestExecutor = VirtualThreads.newThreadPerTaskExecutor("http-vt-");
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadProtocolHandlerCustomizer() {
+        log.info("요청 처리에 가상 스레드를 사용합니다. (server.tomcat.threads.max는 적용되지 않음)");
+        return protocolHandler -> protocolHandler.setExecutor(requestExecutor);
+    }
+
+    /**
+     * 컨텍스트 종료 시 Executor 종료 (웹 서버가 먼저 멈춘 뒤 호출됨)
+     */
+    @Override
+    public void destroy() {
+        requestExecutor.shutdown();
+    }
+}
@@ -0,0 +1,52 @@
+package com.todoboard.server;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * ========================================
+ * 가상 스레드 생성 (Java 21 이상에서만)
+ * ========================================
+ * - 애플리케이션은 Java 11로 컴파일하므로 가상 스레드 API를 리플렉션으로 호출
+ * - Java 21 미만에서 실행하면 isSupported()가 false, 생성 요청은 IllegalStateException
+ */
+public final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * 현재 JVM에서 가상 스레드를 만들 수 있는지 여부
+     */
+    public static boolean isSupported() {
+        return Runtime.version().feature() >= 21;
+    }
+
+    /**
+     * 작업마다 새 가상 스레드를 만드는 Executor
+     * - 스레드 이름: namePrefix + 일련번호 (스레드 덤프, 로그에서 구분)
+     * @param namePrefix 스레드 이름 접두사
+     * @return Executors.newThreadPerTaskExecutor(가상 스레드 팩토리)
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String namePrefix) {
+        if (!isSupported()) {
+            throw new IllegalStateException("가상 스레드는 Java 21 이상에서만 사용할 수 있습니다. 현재 Java 버전: "
+                    + Runtime.version());
+        }
+        try {
+            // Thread.ofVirtual().name(namePrefix, 0).factory()
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            ThreadFactory factory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+
+            Method newExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            return (ExecutorService) newExecutor.invoke(null, factory);
+        } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("가상 스레드 Executor를 만들 수 없습니다.", e);
+        }
+    }
+}
@@ -1,17 +1,26 @@
 package com.todoboard.service;
 
+import com.todoboard.cache.BoardVersions;
+import com.todoboard.cache.SecondLevelCacheSync;
+import com.todoboard.dto.CommentCursor;
+import com.todoboard.dto.CommentOrder;
 import com.todoboard.dto.CommentRequest;
 import com.todoboard.dto.CommentResponse;
+import com.todoboard.dto.CommentSliceResponse;
 import com.todoboard.entity.Comment;
 import com.todoboard.entity.Todo;
+import com.todoboard.live.BoardEvent;
+import com.todoboard.live.BoardEventBroadcaster;
 import com.todoboard.repository.CommentRepository;
 import com.todoboard.repository.TodoRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * ========================================
@@ -25,19 +34,55 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true) // 기본적으로 읽기 전용 트랜잭션
 public class CommentService {
 
+    /**
+     * 댓글 목록 기본/최대 크기
+     */
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final CommentRepository commentRepository;
     private final TodoRepository todoRepository;
+    private final BoardVersions boardVersions;
+    private final BoardEventBroadcaster boardEvents;
+    private final SecondLevelCacheSync secondLevelCache;
 
     /**
      * ========================================
-     * 특정 Todo의 댓글 목록 조회
+     * 특정 Todo의 댓글 목록 조회 (커서 기반)
      * ========================================
+     * - (createdAt, id) 기준 Keyset 페이징, OFFSET 스캔과 count 쿼리 없음
+     * - 다음 목록 존재 여부 판단을 위해 size보다 하나 더 조회
+     * @param todoId 게시글 ID
+     * @param order 정렬 기준 (작성순/최신순)
+     * @param cursor 커서 문자열 (없으면 첫 목록)
+     * @param size 목록 크기 (최대 MAX_PAGE_SIZE)
      */
-    public List<CommentResponse> getCommentsByTodoId(Long todoId) {
-        return commentRepository.findByTodoIdOrderByCreatedAtAsc(todoId)
-                .stream()
-                .map(CommentResponse::from) // Entity를 DTO로 변환
-                .collect(Collectors.toList());
+    public CommentSliceResponse getComments(Long todoId, CommentOrder order, String cursor, int size) {
+        CommentCursor commentCursor = cursor == null || cursor.isEmpty() ? null : CommentCursor.decode(cursor);
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Pageable pageable = PageRequest.of(0, limit + 1);
+        
+        List<CommentResponse> comments;
+        if (order == CommentOrder.LATEST) {
+            comments = commentCursor == null
+                    ? commentRepository.findPageNewestFirst(todoId, pageable)
+                    : commentRepository.findPageNewestFirstAfter(
+                            todoId, commentCursor.getCreatedAt(), commentCursor.getId(), pageable);
+        } else {
+            comments = commentCursor == null
+                    ? commentRepository.findPageOldestFirst(todoId, pageable)
+                    : commentRepository.findPageOldestFirstAfter(
+                            todoId, commentCursor.getCreatedAt(), commentCursor.getId(), pageable);
+        }
+        
+        boolean hasNext = comments.size() > limit;
+        List<CommentResponse> content = hasNext ? comments.subList(0, limit) : comments;
+        return CommentSliceResponse.builder()
+                .content(content)
+                .order(order)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? CommentCursor.after(content.get(content.size() - 1)).encode() : null)
+                .build();
     }
 
     /**
@@ -63,6 +108,10 @@ public class CommentService {
         // 저장
         Comment savedComment = commentRepository.save(comment);
         
+        // 게시판 버전 갱신, 실시간 피드 발행 (커밋 후, 상세 캐시에는 댓글이 없으므로 그대로 둠)
+        boardVersions.bumpAfterCommit(todoId);
+        boardEvents.publishAfterCommit(BoardEvent.commentCreated(todoId, savedComment.getId()));
+        
         return CommentResponse.from(savedComment);
     }
 
@@ -70,15 +119,26 @@ public class CommentService {
      * ========================================
      * 댓글 수정
      * ========================================
+     * - 댓글을 2차 캐시에서 읽어 변경 감지로 수정 (적중하면 버전 조건 UPDATE 한 문장, 2차 캐시는 이 댓글 항목만 갱신)
+     * @throws ObjectOptimisticLockingFailureException 읽어 온 뒤 다른 요청이 먼저 수정한 경우
      */
     @Transactional
     public CommentResponse updateComment(Long commentId, CommentRequest request) {
-        // 존재하는 Comment 조회
+        if (request.getVersion() == null) {
+            throw new IllegalArgumentException("수정할 댓글의 버전이 없습니다. ID: " + commentId);
+        }
+        
+        // 읽어 온 버전과 같을 때만 수정
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 댓글입니다. ID: " + commentId));
+        if (!comment.getVersion().equals(request.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Comment.class, commentId);
+        }
+        comment.updateContent(request.getContent());
+        commentRepository.flush(); // 버전 조건 UPDATE 실행 (그 사이 다른 수정이 있으면 여기서 예외, 응답에 새 버전)
         
-        // 변경 감지를 통한 업데이트
-        comment.update(request.getContent());
+        // 게시판 버전 갱신 (커밋 후, 2차 캐시 항목은 하이버네이트가 갱신, 프록시 ID 조회는 추가 쿼리 없음)
+        boardVersions.bumpAfterCommit(comment.getTodo().getId());
         
         return CommentResponse.from(comment);
     }
@@ -96,5 +156,11 @@ public class CommentService {
         
         // 삭제
         commentRepository.delete(comment);
+        
+        // 게시글의 댓글 컬렉션 캐시 제거, 게시판 버전 갱신, 실시간 피드 발행 (커밋 후, 프록시 ID 조회는 추가 쿼리 없음)
+        Long todoId = comment.getTodo().getId();
+        secondLevelCache.evictCommentsOfTodoAfterCommit(todoId);
+        boardVersions.bumpAfterCommit(todoId);
+        boardEvents.publishAfterCommit(BoardEvent.commentDeleted(todoId, commentId));
     }
 }
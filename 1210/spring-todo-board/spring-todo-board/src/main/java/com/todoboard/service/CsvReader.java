@@ -0,0 +1,99 @@
+package com.todoboard.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ========================================
+ * CSV 읽기 도구 (RFC 4180)
+ * ========================================
+ * - 한 레코드씩 읽어 전체 파일을 메모리에 올리지 않음
+ * - 큰따옴표로 감싼 필드 안의 쉼표, 줄바꿈, "" (큰따옴표 이스케이프) 지원
+ */
+final class CsvReader {
+
+    private final Reader reader;
+    private int lineNumber = 1;
+    private int peeked = -2;
+
+    CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * 현재 레코드가 시작된 줄 번호 (오류 메시지용)
+     */
+    int getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * 다음 레코드 읽기
+     * @return 필드 목록 (파일 끝이면 null)
+     */
+    List<String> readRecord() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IllegalArgumentException("닫히지 않은 큰따옴표가 있습니다. 줄: " + lineNumber);
+                }
+                if (c == '"') {
+                    if (peek() == '"') {
+                        read();
+                        field.append('"'); // "" -> "
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    if (c == '\n') {
+                        lineNumber++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r' && peek() == '\n') {
+                    read();
+                }
+                if (c != -1) {
+                    lineNumber++;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    private int read() throws IOException {
+        if (peeked != -2) {
+            int c = peeked;
+            peeked = -2;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private int peek() throws IOException {
+        if (peeked == -2) {
+            peeked = reader.read();
+        }
+        return peeked;
+    }
+}
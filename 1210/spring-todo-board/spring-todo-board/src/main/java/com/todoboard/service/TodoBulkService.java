@@ -0,0 +1,262 @@
+package com.todoboard.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todoboard.cache.BoardVersions;
+import com.todoboard.cache.TodoDetailCache;
+import com.todoboard.dto.BulkAction;
+import com.todoboard.dto.BulkActionProgress;
+import com.todoboard.dto.BulkActionRequest;
+import com.todoboard.dto.TodoFilter;
+import com.todoboard.repository.CommentRepository;
+import com.todoboard.repository.TodoRepository;
+import com.todoboard.search.TodoSearchIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * ========================================
+ * To-Do 일괄 처리 서비스 (완료 / 미완료 / 삭제)
+ * ========================================
+ * - 대상(ID 목록 또는 조회 조건)을 CHUNK_SIZE개씩 나누어 묶음마다 트랜잭션 하나로 처리
+ * - 묶음 안에서는 게시글마다 문장을 보내지 않고 IN (...) 조건 문장 두 개로 처리
+ *   (완료/미완료: 바뀔 게시글 잠금 조회 + UPDATE, 삭제: 댓글 DELETE + 게시글 DELETE)
+ * - 검색 색인, 상세 캐시, 게시판 버전은 묶음 커밋 후 한 번에 갱신 (게시글마다 갱신하지 않음)
+ * - 묶음마다 진행 상황을 NDJSON 한 줄로 출력 스트림에 기록
+ * - 오류가 있으면 해당 묶음에서 중단 (이전 묶음은 이미 커밋됨)
+ */
+@Slf4j
+@Service
+public class TodoBulkService {
+
+    /**
+     * 한 트랜잭션에서 처리하는 게시글 수
+     */
+    private static final int CHUNK_SIZE = 1000;
+
+    /**
+     * ID 목록으로 지정할 수 있는 최대 게시글 수 (더 많으면 조회 조건 사용)
+     */
+    public static final int MAX_IDS = 10_000;
+
+    private final TodoRepository todoRepository;
+    private final CommentRepository commentRepository;
+    private final TodoSearchIndex todoSearchIndex;
+    private final TodoDetailCache todoDetailCache;
+    private final BoardVersions boardVersions;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    public TodoBulkService(TodoRepository todoRepository,
+                           CommentRepository commentRepository,
+                           TodoSearchIndex todoSearchIndex,
+                           TodoDetailCache todoDetailCache,
+                           BoardVersions boardVersions,
+                           ObjectMapper objectMapper,
+                           PlatformTransactionManager transactionManager) {
+        this.todoRepository = todoRepository;
+        this.commentRepository = commentRepository;
+        this.todoSearchIndex = todoSearchIndex;
+        this.todoDetailCache = todoDetailCache;
+        this.boardVersions = boardVersions;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * ========================================
+     * 일괄 처리
+     * ========================================
+     * - 요청 검증은 출력 전에 끝내므로 잘못된 요청은 아무것도 기록하지 않고 IllegalArgumentException
+     * @param request 처리 종류와 대상
+     * @param out 응답 출력 스트림 (닫지 않음)
+     * @return 마지막 진행 상황 (done=true)
+     */
+    public BulkActionProgress apply(BulkActionRequest request, OutputStream out) throws IOException {
+        Selection selection = select(request);
+        BulkAction action = request.getAction();
+        long startedAt = System.nanoTime();
+        BulkActionProgress progress = BulkActionProgress.builder()
+                .action(action)
+                .total(selection.total())
+                .build();
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            // 응답 스트림은 서블릿 컨테이너가 닫음
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            List<Long> chunk;
+            while (!(chunk = selection.next(CHUNK_SIZE)).isEmpty()) {
+                List<Long> ids = chunk;
+                Integer affected = transactionTemplate.execute(status -> applyChunk(action, ids));
+                progress.setProcessed(progress.getProcessed() + ids.size());
+                progress.setAffected(progress.getAffected() + (affected == null ? 0 : affected));
+                progress.setChunks(progress.getChunks() + 1);
+                progress.setElapsedMillis(elapsedMillis(startedAt));
+                write(generator, progress);
+            }
+
+            progress.setElapsedMillis(elapsedMillis(startedAt));
+            progress.setDone(true);
+            write(generator, progress);
+        }
+
+        log.info("일괄 처리 완료. 종류: {}, 대상: {}, 변경: {}, 묶음: {}, {}ms", action,
+                progress.getProcessed(), progress.getAffected(), progress.getChunks(), progress.getElapsedMillis());
+        return progress;
+    }
+
+    /**
+     * 묶음 처리 (트랜잭션 안에서 실행)
+     * @return 실제로 바뀐(삭제된) 게시글 수
+     */
+    private int applyChunk(BulkAction action, List<Long> ids) {
+        if (action == BulkAction.DELETE) {
+            // 댓글 일괄 삭제 후 게시글 일괄 삭제 (없는 ID는 건너뜀, 2차 캐시는 하이버네이트가 리전 전체를 비움)
+            commentRepository.deleteAllByTodoIdsInBulk(ids);
+            int deleted = todoRepository.deleteAllByIdInBulk(ids);
+
+            // 검색 색인, 상세 캐시, 게시판 버전 갱신 (커밋 후, 묶음에 한 번)
+            todoSearchIndex.removeAllAfterCommit(ids);
+            todoDetailCache.evictAllAfterCommit(ids);
+            boardVersions.bumpAllAfterCommit(ids);
+            return deleted;
+        }
+
+        // 상태가 실제로 바뀔 게시글만 잠근 뒤 그 ID만 갱신 (2차 캐시는 하이버네이트가 무효화)
+        boolean completed = action == BulkAction.COMPLETE;
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> changed = todoRepository.findIdsForCompletedChange(ids, completed);
+        if (changed.isEmpty()) {
+            return 0;
+        }
+        int updated = todoRepository.updateCompletedIn(changed, completed, now);
+        todoSearchIndex.updateCompletedAfterCommit(changed, completed, now);
+        todoDetailCache.evictAllAfterCommit(changed);
+        boardVersions.bumpAllAfterCommit(changed);
+        return updated;
+    }
+
+    /**
+     * 요청 검증 후 대상 선택
+     * - ID 목록: 중복 제거 후 ID 순서 (MAX_IDS개까지, 요청 본문 크기만큼 메모리에 올리므로)
+     * - 검색어 조건: 검색 색인에서 나머지 조건까지 걸러 ID를 미리 구함
+     * - 그 외 조건(또는 all=true): DB에서 ID 순서 Keyset으로 묶음마다 조회
+     */
+    private Selection select(BulkActionRequest request) {
+        if (request.getAction() == null) {
+            throw new IllegalArgumentException("처리 종류(action)를 지정해주세요.");
+        }
+        if (request.hasIds() && request.hasFilter()) {
+            throw new IllegalArgumentException("대상은 ID 목록(ids)과 조회 조건(filter) 중 하나만 지정해주세요.");
+        }
+        if (request.hasIds()) {
+            if (request.getIds().size() > MAX_IDS) {
+                throw new IllegalArgumentException("ID 목록은 " + MAX_IDS + "개까지 지정할 수 있습니다. "
+                        + "더 많은 게시글은 조회 조건(filter) 또는 all=true로 지정해주세요.");
+            }
+            return new IdListSelection(request.getIds().stream()
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .sorted()
+                    .collect(Collectors.toList()));
+        }
+        if (request.hasFilter() && request.getFilter().hasKeyword()) {
+            return new IdListSelection(todoSearchIndex.searchIds(request.getFilter()));
+        }
+        if (!request.hasFilter() && !request.isAll()) {
+            throw new IllegalArgumentException("대상이 없습니다. ids 또는 filter를 지정하거나, 전체를 처리하려면 all=true를 보내주세요.");
+        }
+        return new FilterSelection(request.hasFilter() ? request.getFilter() : new TodoFilter());
+    }
+
+    private void write(JsonGenerator generator, BulkActionProgress progress) throws IOException {
+        generator.writeObject(progress);
+        generator.writeRaw('\n');
+        generator.flush(); // 묶음마다 클라이언트로 전송
+    }
+
+    private static long elapsedMillis(long startedAt) {
+        return (System.nanoTime() - startedAt) / 1_000_000;
+    }
+
+    /**
+     * 일괄 처리 대상 (묶음 단위로 꺼냄)
+     */
+    private interface Selection {
+
+        /**
+         * 처리 시작 시점의 대상 수
+         */
+        long total();
+
+        /**
+         * 다음 묶음 (없으면 빈 목록)
+         */
+        List<Long> next(int limit);
+    }
+
+    /**
+     * 미리 정해진 ID 목록 (오름차순)
+     */
+    private static final class IdListSelection implements Selection {
+
+        private final List<Long> ids;
+        private int position;
+
+        IdListSelection(List<Long> ids) {
+            this.ids = ids;
+        }
+
+        @Override
+        public long total() {
+            return ids.size();
+        }
+
+        @Override
+        public List<Long> next(int limit) {
+            int from = position;
+            position = Math.min(ids.size(), position + limit);
+            return new ArrayList<>(ids.subList(from, position)); // 커밋 후 갱신에서 사용하므로 복사
+        }
+    }
+
+    /**
+     * DB 조건 조합 (마지막 ID 다음부터 조회하므로 처리 중 조건에서 빠진 게시글도 다시 읽지 않음)
+     */
+    private final class FilterSelection implements Selection {
+
+        private final TodoFilter filter;
+        private final long total;
+        private long lastId;
+
+        FilterSelection(TodoFilter filter) {
+            this.filter = filter;
+            this.total = todoRepository.countByFilter(filter);
+        }
+
+        @Override
+        public long total() {
+            return total;
+        }
+
+        @Override
+        public List<Long> next(int limit) {
+            List<Long> ids = todoRepository.findIdsAfter(filter, lastId, limit);
+            if (!ids.isEmpty()) {
+                lastId = ids.get(ids.size() - 1);
+            }
+            return ids;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.todoboard.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todoboard.dto.CommentResponse;
+import com.todoboard.dto.TodoExportResponse;
+import com.todoboard.entity.Comment;
+import com.todoboard.entity.Todo;
+import com.todoboard.repository.CommentRepository;
+import com.todoboard.repository.TodoRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * ========================================
+ * To-Do 내보내기 서비스
+ * ========================================
+ * - 전체 게시글을 NDJSON(줄마다 JSON 객체 하나)으로 출력 스트림에 바로 기록
+ * - DB 커서를 스트림으로 읽고 일정 단위마다 영속성 컨텍스트를 비워 메모리 사용량 일정 유지
+ * - 댓글도 DB 커서 하나로 게시글과 같은 순서로 읽어 묶음 단위로 모아두지 않음
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TodoExportService {
+
+    /**
+     * 한 번에 처리하는 게시글 수 (전송, 영속성 컨텍스트 정리 단위)
+     */
+    private static final int CHUNK_SIZE = 500;
+
+    private final TodoRepository todoRepository;
+    private final CommentRepository commentRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * ========================================
+     * 전체 게시글 NDJSON 내보내기
+     * ========================================
+     * - 댓글은 게시글 ID 순 스트림을 게시글 스트림과 나란히 읽어 붙임 (한 번에 게시글 하나의 댓글만 보관)
+     * @param includeComments 댓글 포함 여부
+     * @param out 응답 출력 스트림 (닫지 않음)
+     * @return 내보낸 게시글 수
+     */
+    public long exportTodos(boolean includeComments, OutputStream out) throws IOException {
+        long count = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+             Stream<Todo> todos = todoRepository.streamAllByOrderById();
+             Stream<Comment> comments = includeComments ? commentRepository.streamAllByOrderByTodoId() : Stream.empty()) {
+            // 응답 스트림은 서블릿 컨테이너가 닫음
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            CommentMerger commentMerger = includeComments ? new CommentMerger(comments.iterator()) : null;
+            int written = 0;
+            Iterator<Todo> iterator = todos.iterator();
+            while (iterator.hasNext()) {
+                Todo todo = iterator.next();
+                List<CommentResponse> todoComments = commentMerger != null ? commentMerger.commentsOf(todo.getId()) : null;
+                generator.writeObject(TodoExportResponse.from(todo, todoComments));
+                generator.writeRaw('\n');
+                count++;
+                if (++written == CHUNK_SIZE) {
+                    endChunk(generator);
+                    written = 0;
+                }
+            }
+            endChunk(generator);
+        }
+        return count;
+    }
+
+    /**
+     * 묶음 끝: 클라이언트로 전송 후 영속성 컨텍스트 정리
+     */
+    private void endChunk(JsonGenerator generator) throws IOException {
+        generator.flush(); // 묶음마다 클라이언트로 전송
+        entityManager.clear(); // 읽은 엔티티를 영속성 컨텍스트에서 분리하여 메모리 해제
+    }
+
+    /**
+     * 게시글 ID 순 댓글 스트림을 게시글 순서에 맞춰 나눠 주는 도우미
+     * - 게시글 ID는 오름차순으로만 요청되므로 앞으로만 읽음
+     * - 다음 게시글의 첫 댓글 하나만 미리 읽어 둠 (DTO로 변환해 두므로 영속성 컨텍스트를 비워도 안전)
+     */
+    private static final class CommentMerger {
+
+        private final Iterator<Comment> comments;
+        private Long pendingTodoId;
+        private CommentResponse pending;
+
+        CommentMerger(Iterator<Comment> comments) {
+            this.comments = comments;
+            advance();
+        }
+
+        /**
+         * 게시글의 댓글 목록 (생성일 오름차순, 없으면 빈 목록)
+         */
+        List<CommentResponse> commentsOf(Long todoId) {
+            // 앞선 게시글의 댓글(이미 지나간 게시글)은 건너뜀
+            while (pending != null && pendingTodoId < todoId) {
+                advance();
+            }
+            if (pending == null || !pendingTodoId.equals(todoId)) {
+                return List.of();
+            }
+            List<CommentResponse> result = new ArrayList<>();
+            while (pending != null && pendingTodoId.equals(todoId)) {
+                result.add(pending);
+                advance();
+            }
+            return result;
+        }
+
+        private void advance() {
+            if (!comments.hasNext()) {
+                pendingTodoId = null;
+                pending = null;
+                return;
+            }
+            Comment comment = comments.next();
+            pendingTodoId = comment.getTodo().getId(); // 외래 키 값 (게시글을 로딩하지 않음)
+            pending = CommentResponse.from(comment);
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.todoboard.service;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todoboard.cache.BoardVersions;
+import com.todoboard.dto.CommentResponse;
+import com.todoboard.dto.ImportResult;
+import com.todoboard.dto.TodoExportResponse;
+import com.todoboard.entity.Comment;
+import com.todoboard.entity.Todo;
+import com.todoboard.search.TodoSearchIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ========================================
+ * To-Do 가져오기 서비스
+ * ========================================
+ * - NDJSON(내보내기 형식) 또는 CSV(기존 BOARD/REPLY 테이블) 데이터를 일괄 저장
+ * - 입력을 스트림으로 읽고 일정 개수마다 트랜잭션을 나누어 커밋
+ * - 시퀀스 ID + hibernate.jdbc.batch_size 설정으로 INSERT를 JDBC 배치로 전송
+ * - 오류가 있으면 해당 줄에서 중단 (이전 묶음은 이미 커밋됨)
+ */
+@Slf4j
+@Service
+public class TodoImportService {
+
+    /**
+     * 한 트랜잭션에서 저장하는 게시글 수
+     */
+    private static final int CHUNK_SIZE = 1000;
+
+    private static final String DEFAULT_TITLE = "(제목 없음)";
+    private static final String DEFAULT_AUTHOR = "익명";
+
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TodoSearchIndex todoSearchIndex;
+    private final BoardVersions boardVersions;
+    private final TransactionTemplate transactionTemplate;
+
+    public TodoImportService(EntityManager entityManager,
+                             ObjectMapper objectMapper,
+                             TodoSearchIndex todoSearchIndex,
+                             BoardVersions boardVersions,
+                             PlatformTransactionManager transactionManager) {
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.todoSearchIndex = todoSearchIndex;
+        this.boardVersions = boardVersions;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * ========================================
+     * NDJSON 가져오기
+     * ========================================
+     * - GET /todos/export 출력과 같은 형식 (한 줄에 게시글 하나, comments 배열 선택)
+     * - id 필드는 무시하고 새 ID 발급
+     * @param in 입력 스트림
+     * @return 가져오기 결과
+     */
+    public ImportResult importNdjson(InputStream in) throws IOException {
+        ImportBuffer buffer = new ImportBuffer();
+        try (MappingIterator<TodoExportResponse> lines = objectMapper.readerFor(TodoExportResponse.class).readValues(in)) {
+            while (lines.hasNextValue()) {
+                TodoExportResponse line = lines.nextValue();
+                Todo todo = newTodo(line.getTitle(), line.getContent(), line.getAuthor(),
+                        line.getCompleted(), line.getViewCount(), line.getCreatedAt(), line.getUpdatedAt());
+                if (line.getComments() != null) {
+                    for (CommentResponse comment : line.getComments()) {
+                        todo.addComment(newComment(comment.getContent(), comment.getAuthor(),
+                                comment.getCreatedAt(), comment.getUpdatedAt()));
+                    }
+                }
+                buffer.add(todo);
+            }
+        }
+        return buffer.finish();
+    }
+
+    /**
+     * ========================================
+     * CSV 가져오기 (기존 BOARD/REPLY 이관)
+     * ========================================
+     * - 첫 줄은 헤더: type,legacy_id,title,content,author,created_at
+     * - type=TODO: BOARD 행 (legacy_id=BCODE, title=SUBJECT, content=CONTENT, author=WRITER)
+     * - type=COMMENT: REPLY 행 (legacy_id=BCODE, content=REPLY, author=WRITER), 같은 BCODE의 TODO 행 바로 뒤에 위치
+     * - created_at: yyyy-MM-dd 또는 yyyy-MM-ddTHH:mm:ss (비어 있으면 현재 시각)
+     * @param reader 입력
+     * @return 가져오기 결과
+     */
+    public ImportResult importCsv(Reader reader) throws IOException {
+        CsvReader csv = new CsvReader(reader);
+        csv.readRecord(); // 헤더 건너뛰기
+
+        ImportBuffer buffer = new ImportBuffer();
+        Todo current = null;
+        String currentKey = null;
+        List<String> record;
+        int line = csv.getLineNumber();
+        while ((record = csv.readRecord()) != null) {
+            if (record.size() == 1 && record.get(0).isEmpty()) {
+                line = csv.getLineNumber();
+                continue; // 빈 줄
+            }
+            if (record.size() < 6) {
+                throw new IllegalArgumentException("CSV 필드 수가 부족합니다. 줄: " + line);
+            }
+
+            String type = record.get(0).trim();
+            String key = record.get(1).trim();
+            LocalDateTime createdAt = parseDate(record.get(5), line);
+            if ("TODO".equalsIgnoreCase(type)) {
+                current = newTodo(record.get(2), record.get(3), record.get(4), false, 0L, createdAt, null);
+                currentKey = key;
+                buffer.add(current);
+            } else if ("COMMENT".equalsIgnoreCase(type)) {
+                if (current == null || !key.equals(currentKey)) {
+                    throw new IllegalArgumentException("댓글의 게시글(" + key + ")이 바로 앞에 없습니다. 줄: " + line);
+                }
+                current.addComment(newComment(record.get(3), record.get(4), createdAt, null));
+                buffer.countComment();
+            } else {
+                throw new IllegalArgumentException("알 수 없는 행 종류입니다: " + type + ", 줄: " + line);
+            }
+            line = csv.getLineNumber();
+        }
+        return buffer.finish();
+    }
+
+    /**
+     * 게시글 엔티티 생성 (빈 값은 기본값으로 대체)
+     */
+    private Todo newTodo(String title, String content, String author,
+                         Boolean completed, Long viewCount,
+                         LocalDateTime createdAt, LocalDateTime updatedAt) {
+        Todo todo = Todo.builder()
+                .title(isBlank(title) ? DEFAULT_TITLE : truncate(title, 200))
+                .content(content == null ? "" : content)
+                .author(isBlank(author) ? DEFAULT_AUTHOR : truncate(author, 50))
+                .completed(completed != null && completed)
+                .viewCount(viewCount == null ? 0L : viewCount)
+                .build();
+        if (createdAt != null) {
+            todo.importDates(createdAt, updatedAt);
+        }
+        return todo;
+    }
+
+    /**
+     * 댓글 엔티티 생성 (빈 값은 기본값으로 대체)
+     */
+    private Comment newComment(String content, String author, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        Comment comment = Comment.builder()
+                .content(content == null ? "" : truncate(content, 500))
+                .author(isBlank(author) ? DEFAULT_AUTHOR : truncate(author, 50))
+                .build();
+        if (createdAt != null) {
+            comment.importDates(createdAt, updatedAt);
+        }
+        return comment;
+    }
+
+    /**
+     * CSV 날짜 변환 (DATE, DATETIME 형식 모두 지원)
+     */
+    private LocalDateTime parseDate(String value, int line) {
+        String trimmed = value.trim();
+        if (trimmed.isEmpty()) {
+            return null;
+        }
+        try {
+            if (trimmed.length() == 10) {
+                return LocalDate.parse(trimmed).atStartOfDay();
+            }
+            return LocalDateTime.parse(trimmed.replace(' ', 'T'));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("날짜 형식이 올바르지 않습니다: " + value + ", 줄: " + line, e);
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value.length() <= maxLength ? value : value.substring(0, maxLength);
+    }
+
+    /**
+     * ========================================
+     * 가져오기 버퍼
+     * ========================================
+     * - 게시글을 CHUNK_SIZE개씩 모아 한 트랜잭션으로 저장
+     */
+    private class ImportBuffer {
+
+        private final List<Todo> chunk = new ArrayList<>(CHUNK_SIZE);
+        private final long startedAt = System.nanoTime();
+        private long todoCount;
+        private long commentCount;
+
+        /**
+         * 게시글 추가 (묶음이 차면 이전 묶음 저장)
+         * - CSV는 댓글이 게시글 뒤에 오므로 새 게시글이 들어올 때 이전 묶음을 저장
+         */
+        void add(Todo todo) {
+            if (chunk.size() == CHUNK_SIZE) {
+                save();
+            }
+            chunk.add(todo);
+            todoCount++;
+            commentCount += todo.getComments().size();
+        }
+
+        /**
+         * 게시글에 나중에 추가된 댓글 집계 (CSV)
+         */
+        void countComment() {
+            commentCount++;
+        }
+
+        /**
+         * 남은 묶음 저장 후 결과 반환
+         */
+        ImportResult finish() {
+            save();
+            long elapsedMillis = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+            long rows = todoCount + commentCount;
+            ImportResult result = ImportResult.builder()
+                    .todoCount(todoCount)
+                    .commentCount(commentCount)
+                    .elapsedMillis(elapsedMillis)
+                    .rowsPerSecond(rows * 1000 / elapsedMillis)
+                    .build();
+            log.info("가져오기 완료. 게시글: {}, 댓글: {}, {}ms, {} rows/s",
+                    todoCount, commentCount, elapsedMillis, result.getRowsPerSecond());
+            return result;
+        }
+
+        /**
+         * 묶음 저장 (JDBC 배치 INSERT) 후 검색 색인, 게시판 버전 갱신
+         */
+        private void save() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                chunk.forEach(entityManager::persist); // 댓글은 CascadeType.ALL로 함께 저장
+                entityManager.flush();
+                entityManager.clear(); // 저장한 엔티티를 영속성 컨텍스트에서 분리하여 메모리 해제
+            });
+            chunk.forEach(todoSearchIndex::index);
+            boardVersions.bump(null); // 커밋 완료 후이므로 즉시 갱신
+            chunk.clear();
+        }
+    }
+}
@@ -1,15 +1,42 @@
 package com.todoboard.service;
 
+import com.todoboard.cache.BoardVersions;
+import com.todoboard.cache.TodoDetailCache;
+import com.todoboard.dto.TodoCursor;
+import com.todoboard.dto.TodoDetailResponse;
+import com.todoboard.dto.TodoFilter;
 import com.todoboard.dto.TodoRequest;
 import com.todoboard.dto.TodoResponse;
+import com.todoboard.dto.TodoSliceResponse;
+import com.todoboard.dto.TodoSort;
 import com.todoboard.entity.Todo;
+import com.todoboard.live.BoardEvent;
+import com.todoboard.live.BoardEventBroadcaster;
+import com.todoboard.repository.CommentRepository;
+import com.todoboard.repository.TodoDetailVersion;
 import com.todoboard.repository.TodoRepository;
+import com.todoboard.repository.TodoSummary;
+import com.todoboard.repository.TodoViewCount;
+import com.todoboard.search.TodoSearchIndex;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 /**
  * ========================================
  * To-Do 서비스 클래스
@@ -22,60 +49,207 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true) // 기본적으로 읽기 전용 트랜잭션
 public class TodoService {
 
+    /**
+     * 조회수를 한 번에 조회할 수 있는 최대 게시글 수 (getViewCounts)
+     */
+    public static final int MAX_VIEW_COUNT_IDS = 100;
+
     private final TodoRepository todoRepository;
+    private final CommentRepository commentRepository;
+    private final ViewCountAggregator viewCountAggregator;
+    private final TodoSearchIndex todoSearchIndex;
+    private final TodoDetailCache todoDetailCache;
+    private final BoardVersions boardVersions;
+    private final BoardEventBroadcaster boardEvents;
+
+    /**
+     * ========================================
+     * 조건 조합 목록 조회 (페이징)
+     * ========================================
+     * - 검색어, 완료 여부, 작성자, 작성/수정 기간, 정렬을 함께 적용
+     * - 검색어가 있으면 TodoSearchIndex 역색인에서 나머지 조건까지 걸러 ID를 찾고,
+     *   DB는 현재 페이지 게시글을 ID로 조회할 때만 사용
+     * - 검색어가 없으면 TodoFilterRepository 조건 조합 쿼리 (복합 인덱스 범위 스캔)
+     * @param filter 조회 조건
+     * @param pageable 페이지 번호와 크기 (정렬은 filter 기준)
+     */
+    public Page<TodoResponse> findTodos(TodoFilter filter, Pageable pageable) {
+        if (filter.hasKeyword()) {
+            Page<Long> hits = todoSearchIndex.search(filter, pageable);
+            return new PageImpl<>(toResponses(findSummariesInOrder(hits.getContent())), pageable, hits.getTotalElements());
+        }
+        return todoRepository.findSummaries(filter, pageable).map(this::toResponse); // 목록용 Projection을 DTO로 변환
+    }
 
     /**
      * ========================================
-     * 전체 목록 조회 (페이징)
+     * 전체 목록 조회 (페이징, 최신순)
      * ========================================
      */
     public Page<TodoResponse> getAllTodos(Pageable pageable) {
-        return todoRepository.findAll(pageable)
-                .map(TodoResponse::from); // Entity를 DTO로 변환
+        return findTodos(new TodoFilter(), pageable);
     }
 
     /**
      * ========================================
-     * 검색 (제목 또는 내용, 페이징)
+     * 검색 (제목 또는 내용, 페이징, 관련도순)
      * ========================================
      */
     public Page<TodoResponse> searchTodos(String keyword, Pageable pageable) {
-        // 키워드가 없으면 전체 조회
-        if (keyword == null || keyword.trim().isEmpty()) {
-            return getAllTodos(pageable);
+        return findTodos(TodoFilter.builder().keyword(keyword).sort(TodoSort.RELEVANCE).build(), pageable);
+    }
+
+    /**
+     * ========================================
+     * 커서 기반 목록 조회 (Keyset 페이징)
+     * ========================================
+     * - (createdAt, id) 기준 최신순, OFFSET 스캔과 count 쿼리 없음
+     * - 목록 화면과 같은 조건 조합 적용 (정렬은 최신순만 지원)
+     * @param filter 조회 조건
+     * @param cursor 커서 문자열 (없으면 첫 목록)
+     * @param size 목록 크기
+     */
+    public TodoSliceResponse getTodoSlice(TodoFilter filter, String cursor, int size) {
+        if (!filter.supportsCursor()) {
+            throw new IllegalArgumentException("커서 이동은 최신순 정렬에서만 사용할 수 있습니다.");
+        }
+        TodoCursor todoCursor = cursor == null || cursor.isEmpty() ? null : TodoCursor.decode(cursor);
+        boolean backward = todoCursor != null && todoCursor.isBackward();
+        
+        // 커서 이후 게시글을 하나 더 조회하여 다음 목록 존재 여부 판단
+        List<TodoSummary> todos;
+        boolean hasMore;
+        if (filter.hasKeyword()) {
+            List<Long> ids = todoSearchIndex.searchSlice(filter, todoCursor, size + 1);
+            todos = findSummariesInOrder(ids.subList(0, Math.min(size, ids.size())));
+            hasMore = ids.size() > size;
+        } else {
+            todos = todoRepository.findSummarySlice(filter, todoCursor, size + 1);
+            hasMore = todos.size() > size;
+            todos = todos.subList(0, Math.min(size, todos.size()));
+        }
+        
+        // 이전 목록 조회 결과는 오래된 순이므로 최신순으로 뒤집기
+        if (backward) {
+            todos = new ArrayList<>(todos);
+            Collections.reverse(todos);
         }
         
-        return todoRepository.searchByTitleOrContent(keyword.trim(), pageable)
-                .map(TodoResponse::from);
+        List<TodoResponse> content = toResponses(todos);
+        boolean hasNext = backward || hasMore;
+        boolean hasPrevious = backward ? hasMore : todoCursor != null;
+        
+        return TodoSliceResponse.builder()
+                .content(content)
+                .size(size)
+                .hasNext(hasNext && !content.isEmpty())
+                .hasPrevious(hasPrevious && !content.isEmpty())
+                .nextCursor(hasNext && !content.isEmpty()
+                        ? TodoCursor.next(content.get(content.size() - 1)).encode() : null)
+                .prevCursor(hasPrevious && !content.isEmpty()
+                        ? TodoCursor.previous(content.get(0)).encode() : null)
+                .build();
     }
 
     /**
      * ========================================
-     * 완료 여부로 필터링 (페이징)
+     * 상세 조회 (조회수 증가)
      * ========================================
+     * - TodoDetailCache에 있으면 DB 조회 없이 반환 (트랜잭션도 시작하지 않음)
+     * - 없을 때만 게시글을 조회하여 캐시에 저장 (댓글은 CommentService.getComments로 페이지 단위 조회)
+     * - 조회수는 ViewCountAggregator에 누적 후 주기적으로 반영
      */
-    public Page<TodoResponse> getTodosByCompleted(Boolean completed, Pageable pageable) {
-        return todoRepository.findByCompleted(completed, pageable)
-                .map(TodoResponse::from);
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public TodoDetailResponse getTodoDetail(Long id) {
+        TodoDetailResponse detail = todoDetailCache.get(id, this::loadTodoDetail);
+        
+        // 조회수 증가 (메모리에 누적)
+        viewCountAggregator.increment(id);
+        
+        // 캐시 항목은 공유되므로 복사본에 대기 중인 조회수 반영
+        return detail.toBuilder()
+                .viewCount(detail.getViewCount() + viewCountAggregator.getPendingCount(id))
+                .build();
     }
 
     /**
      * ========================================
-     * 상세 조회 (조회수 증가)
+     * 상세 화면 검증값 조회 (조건부 요청용)
      * ========================================
+     * - 게시글 수정 일시 + 최근 댓글 일시 + 댓글 개수를 스칼라 쿼리 한 번으로 조회
+     * - 엔티티와 댓글을 로딩하지 않음
      */
-    @Transactional // 쓰기 작업이므로 readOnly = false
-    public Todo getTodoById(Long id) {
+    public TodoDetailVersion getTodoDetailVersion(Long id) {
+        return todoRepository.findDetailVersionById(id)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 게시글입니다. ID: " + id));
+    }
+
+    /**
+     * ========================================
+     * 조회수만 증가 (304 응답 등 화면 데이터가 필요 없는 조회)
+     * ========================================
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void countView(Long id) {
+        viewCountAggregator.increment(id);
+    }
+
+    /**
+     * ========================================
+     * 단건 조회 (조회수 증가 없음)
+     * ========================================
+     * - 수정 폼 등 조회수에 포함하지 않을 화면에서 사용
+     */
+    public TodoResponse getTodo(Long id) {
         Todo todo = todoRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 게시글입니다. ID: " + id));
-        
-        // 조회수 증가
-        todo.increaseViewCount();
-        
-        // 댓글 목록을 즉시 로딩 (Lazy Loading 방지)
-        todo.getComments().size();
-        
-        return todo;
+        return toResponse(todo);
+    }
+
+    /**
+     * ========================================
+     * 화면에 표시할 조회수
+     * ========================================
+     * - DB에 저장된 조회수 + 아직 반영되지 않은 조회수
+     */
+    public long getViewCount(Todo todo) {
+        return todo.getViewCount() + viewCountAggregator.getPendingCount(todo.getId());
+    }
+
+    /**
+     * ========================================
+     * 조회수만 조회 (조회수 증가 없음)
+     * ========================================
+     * - 상세 화면이 304로 재사용되어도 최신 조회수를 보여주기 위해 따로 조회
+     * - 게시글은 2차 캐시에서 읽으므로 보통 쿼리 없음
+     */
+    public long getViewCount(Long id) {
+        Todo todo = todoRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 게시글입니다. ID: " + id));
+        return getViewCount(todo);
+    }
+
+    /**
+     * ========================================
+     * 여러 게시글 조회수 조회 (목록 화면용, 조회수 증가 없음)
+     * ========================================
+     * - 목록 조회 결과(쿼리 캐시, 조각 캐시)에는 조회수가 없으므로 화면이 따로 조회
+     * - 저장된 조회수를 한 쿼리로 읽고 대기 중인 조회수를 더함 (없는 게시글은 제외)
+     * @param ids 게시글 ID 목록 (최대 MAX_VIEW_COUNT_IDS개)
+     * @return 게시글 ID별 조회수
+     */
+    public Map<Long, Long> getViewCounts(Collection<Long> ids) {
+        if (ids.size() > MAX_VIEW_COUNT_IDS) {
+            throw new IllegalArgumentException("조회수는 한 번에 " + MAX_VIEW_COUNT_IDS + "개까지 조회할 수 있습니다.");
+        }
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Long> viewCounts = new LinkedHashMap<>();
+        for (TodoViewCount stored : todoRepository.findViewCountsByIdIn(ids)) {
+            viewCounts.put(stored.getId(), stored.getViewCount() + viewCountAggregator.getPendingCount(stored.getId()));
+        }
+        return viewCounts;
     }
 
     /**
@@ -95,55 +269,153 @@ public class TodoService {
         // 저장
         Todo savedTodo = todoRepository.save(todo);
         
-        return TodoResponse.from(savedTodo);
+        // 검색 색인, 게시판 버전 갱신 (커밋 후)
+        todoSearchIndex.indexAfterCommit(savedTodo);
+        boardVersions.bumpAfterCommit(savedTodo.getId());
+        
+        return TodoResponse.from(savedTodo, 0); // 새 게시글은 댓글이 없음
     }
 
     /**
      * ========================================
      * 수정
      * ========================================
+     * - 게시글을 2차 캐시에서 읽어 변경 감지로 수정 (적중하면 버전 조건 UPDATE 한 문장만 실행)
+     * - 하이버네이트가 커밋 시 이 게시글의 2차 캐시 항목만 갱신하고 todos 테이블 변경 시각을 올림 (목록 쿼리 캐시 무효)
+     * - 수정 폼이 읽어 간 뒤 다른 사용자가 먼저 수정했으면 덮어쓰지 않고 예외
+     * @throws ObjectOptimisticLockingFailureException 버전이 다른 경우 (동시 수정)
      */
     @Transactional
     public TodoResponse updateTodo(Long id, TodoRequest request) {
-        // 존재하는 Todo 조회
-        Todo todo = todoRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 게시글입니다. ID: " + id));
+        if (request.getVersion() == null) {
+            throw new IllegalArgumentException("수정할 게시글의 버전이 없습니다. ID: " + id);
+        }
+        
+        // 폼이 읽어 간 버전과 같을 때만 수정
+        Todo todo = findTodo(id);
+        if (!todo.getVersion().equals(request.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Todo.class, id);
+        }
+        todo.updateContent(request.getTitle(), request.getContent());
+        todoRepository.flush(); // 버전 조건 UPDATE 실행 (그 사이 다른 수정이 있으면 여기서 예외, 응답에 새 버전)
         
-        // 변경 감지 (Dirty Checking)를 통한 업데이트
-        todo.update(request.getTitle(), request.getContent());
+        // 검색 색인, 상세 캐시, 게시판 버전 갱신, 실시간 피드 발행 (커밋 후, 2차 캐시 항목은 하이버네이트가 갱신)
+        todoSearchIndex.indexAfterCommit(todo);
+        todoDetailCache.evictAfterCommit(id);
+        boardVersions.bumpAfterCommit(id);
+        boardEvents.publishAfterCommit(BoardEvent.todoUpdated(id));
         
-        return TodoResponse.from(todo);
+        return toResponse(todo);
     }
 
     /**
      * ========================================
      * 삭제
      * ========================================
+     * - 게시글과 댓글을 읽지 않고 DELETE 두 문장으로 삭제 (댓글 수와 관계없이 왕복 두 번)
+     * - 댓글을 먼저 지워야 외래키 위반이 없음
+     * - 2차 캐시는 하이버네이트가 일괄 DELETE 문 실행 시 게시글/댓글/댓글 컬렉션 리전 전체를 비움
+     *   (삭제한 게시글만이 아니라 리전 전체, 의도한 동작: 항목별 제거는 엔티티를 읽어 지워야 하므로 DELETE 한 문장의 이점이 사라짐)
      */
     @Transactional
     public void deleteTodo(Long id) {
-        // 존재하는 Todo 조회
-        Todo todo = todoRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 게시글입니다. ID: " + id));
+        // 댓글 일괄 삭제 후 게시글 삭제 (게시글이 없으면 롤백)
+        commentRepository.deleteAllByTodoIdInBulk(id);
+        if (todoRepository.deleteByIdInBulk(id) == 0) {
+            throw new IllegalArgumentException("존재하지 않는 게시글입니다. ID: " + id);
+        }
         
-        // 삭제 (연관된 댓글도 함께 삭제됨 - CascadeType.ALL)
-        todoRepository.delete(todo);
+        // 검색 색인, 상세 캐시 제거, 게시판 버전 갱신 (커밋 후)
+        todoSearchIndex.removeAfterCommit(id);
+        todoDetailCache.evictAfterCommit(id);
+        boardVersions.bumpAfterCommit(id);
     }
 
     /**
      * ========================================
      * 완료 상태 토글
      * ========================================
+     * - 게시글을 2차 캐시에서 읽어 변경 감지로 토글 (적중하면 버전 조건 UPDATE 한 문장, 왕복 한 번)
+     * - 바뀐 컬럼만 UPDATE하고 2차 캐시는 이 게시글 항목만 갱신 (수정과 같음)
+     * @return 변경 후 완료 여부
+     * @throws ObjectOptimisticLockingFailureException 읽은 뒤 다른 요청이 먼저 바꾼 경우 (동시 토글)
      */
     @Transactional
-    public TodoResponse toggleCompleted(Long id) {
-        // 존재하는 Todo 조회
-        Todo todo = todoRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 게시글입니다. ID: " + id));
-        
-        // 완료 상태 변경
+    public boolean toggleCompleted(Long id) {
+        Todo todo = findTodo(id);
         todo.toggleCompleted();
+        todoRepository.flush(); // 버전 조건 UPDATE 실행 (동시 토글이면 여기서 예외)
         
-        return TodoResponse.from(todo);
+        // 검색 색인 속성, 상세 캐시, 게시판 버전 갱신, 실시간 피드 발행 (커밋 후, 2차 캐시 항목은 하이버네이트가 갱신)
+        todoSearchIndex.refreshAttributesAfterCommit(todo);
+        todoDetailCache.evictAfterCommit(id);
+        boardVersions.bumpAfterCommit(id);
+        boardEvents.publishAfterCommit(BoardEvent.todoCompletedChanged(id, todo.getCompleted()));
+        
+        return todo.getCompleted();
+    }
+
+    /**
+     * 변경할 게시글 조회 (2차 캐시에 있으면 쿼리 없음)
+     */
+    private Todo findTodo(Long id) {
+        return todoRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 게시글입니다. ID: " + id));
+    }
+
+    /**
+     * 상세 데이터 DB 조회 (캐시에 없을 때만 실행, 댓글은 포함하지 않음)
+     */
+    private TodoDetailResponse loadTodoDetail(Long id) {
+        Todo todo = todoRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 게시글입니다. ID: " + id));
+        return TodoDetailResponse.from(todo);
+    }
+
+    /**
+     * ID 목록 순서대로 게시글 요약 조회 (조회 사이에 삭제된 게시글은 제외)
+     */
+    private List<TodoSummary> findSummariesInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, TodoSummary> summaries = todoRepository.findSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(TodoSummary::getId, Function.identity()));
+        return ids.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 목록용 Projection 목록을 DTO로 변환
+     */
+    private List<TodoResponse> toResponses(List<TodoSummary> summaries) {
+        return summaries.stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 목록용 Projection을 DTO로 변환 (조회수 없음, 화면에서 getViewCounts로 따로 조회)
+     */
+    private TodoResponse toResponse(TodoSummary summary) {
+        return TodoResponse.from(summary);
+    }
+
+    /**
+     * 단건 Entity를 DTO로 변환 (댓글 개수는 COUNT 쿼리로 조회)
+     */
+    private TodoResponse toResponse(Todo todo) {
+        return toResponse(todo, commentRepository.countByTodoId(todo.getId()));
+    }
+
+    /**
+     * Entity를 DTO로 변환 (대기 중인 조회수 포함)
+     */
+    private TodoResponse toResponse(Todo todo, long commentCount) {
+        TodoResponse response = TodoResponse.from(todo, commentCount);
+        response.setViewCount(getViewCount(todo));
+        return response;
     }
 }
@@ -0,0 +1,173 @@
+package com.todoboard.service;
+
+import com.todoboard.cache.SecondLevelCacheSync;
+import com.todoboard.cache.TodoDetailCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ========================================
+ * 조회수 집계기 (Write-Behind)
+ * ========================================
+ * - 상세 조회마다 UPDATE 하지 않고 메모리에 조회수를 누적
+ * - 게시글별 LongAdder(스트라이프 카운터)로 동시 증가 경합 최소화
+ * - 주기적으로 view_count = view_count + ? 배치 UPDATE로 반영
+ * - 반영한 게시글은 상세 캐시와 2차 캐시를 무효화하여 다음 조회 때 새 조회수를 읽음
+ *   (DB 값이 오래된 채 대기 중인 조회수만 비워지면 화면의 조회수가 줄어듦)
+ * - 목록 쿼리 캐시와 화면 조각 캐시는 비우지 않음 (목록 결과에는 조회수가 없고 화면이 GET /todos/views로 따로 조회)
+ */
+@Slf4j
+@Component
+public class ViewCountAggregator {
+
+    private static final String FLUSH_SQL =
+            "UPDATE todos SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TodoDetailCache todoDetailCache;
+    private final SecondLevelCacheSync secondLevelCache;
+
+    /**
+     * 아직 DB에 반영되지 않은 게시글별 조회수
+     */
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 직전 반영 주기에 떼어낸 카운터
+     * - 떼어내는 순간 증가 중이던 요청의 늦은 증가분을 다음 주기에 회수
+     */
+    private volatile Map<Long, RetiredCounter> retiring = new HashMap<>();
+
+    public ViewCountAggregator(JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               TodoDetailCache todoDetailCache,
+                               SecondLevelCacheSync secondLevelCache) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.todoDetailCache = todoDetailCache;
+        this.secondLevelCache = secondLevelCache;
+    }
+
+    /**
+     * 조회수 1 증가 (메모리에만 누적)
+     * @param todoId 게시글 ID
+     */
+    public void increment(Long todoId) {
+        pending.computeIfAbsent(todoId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * 아직 반영되지 않은 조회수
+     * @param todoId 게시글 ID
+     * @return 대기 중인 증가분
+     */
+    public long getPendingCount(Long todoId) {
+        long count = 0;
+        LongAdder adder = pending.get(todoId);
+        if (adder != null) {
+            count += adder.sum();
+        }
+        RetiredCounter retired = retiring.get(todoId);
+        if (retired != null) {
+            count += retired.late();
+        }
+        return count;
+    }
+
+    /**
+     * ========================================
+     * 누적된 조회수를 DB에 일괄 반영
+     * ========================================
+     */
+    @Scheduled(fixedDelayString = "${todoboard.view-count.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        // 게시글 ID 순으로 정렬하여 행 잠금 순서를 고정 (교착 방지)
+        Map<Long, Long> deltas = new TreeMap<>();
+
+        // 직전 주기에 떼어낸 카운터의 늦은 증가분 회수
+        for (Map.Entry<Long, RetiredCounter> entry : retiring.entrySet()) {
+            long late = entry.getValue().late();
+            if (late > 0) {
+                deltas.merge(entry.getKey(), late, Long::sum);
+            }
+        }
+
+        // 현재 카운터를 떼어내고 합계 수집
+        Map<Long, RetiredCounter> nextRetiring = new HashMap<>();
+        for (Long todoId : pending.keySet()) {
+            LongAdder adder = pending.remove(todoId);
+            if (adder == null) {
+                continue;
+            }
+            long counted = adder.sum();
+            nextRetiring.put(todoId, new RetiredCounter(adder, counted));
+            if (counted > 0) {
+                deltas.merge(todoId, counted, Long::sum);
+            }
+        }
+        retiring = nextRetiring;
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>(deltas.size());
+        deltas.forEach((todoId, delta) -> batchArgs.add(new Object[]{delta, todoId}));
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs));
+            // 커밋 후 캐시된 상세 데이터의 조회수가 오래되었으므로 무효화
+            todoDetailCache.evictAll(deltas.keySet());
+            secondLevelCache.evictTodos(deltas.keySet());
+        } catch (RuntimeException e) {
+            // 반영 실패 시 다음 주기에 다시 시도하도록 되돌려 놓음
+            log.warn("조회수 반영 실패, 다음 주기에 재시도합니다. 대상 게시글 수: {}", deltas.size(), e);
+            deltas.forEach((todoId, delta) -> pending.computeIfAbsent(todoId, id -> new LongAdder()).add(delta));
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 조회수 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        // 떼어낸 카운터의 늦은 증가분까지 반영하기 위해 두 번 수행
+        flush();
+        flush();
+    }
+
+    /**
+     * 떼어낸 카운터와 떼어낼 당시 이미 집계한 값
+     */
+    private static final class RetiredCounter {
+
+        private final LongAdder adder;
+        private final long counted;
+
+        private RetiredCounter(LongAdder adder, long counted) {
+            this.adder = adder;
+            this.counted = counted;
+        }
+
+        /**
+         * 떼어낸 뒤에 추가된 증가분
+         */
+        private long late() {
+            return adder.sum() - counted;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.todoboard.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * ========================================
+ * 트랜잭션 커밋 후 실행
+ * ========================================
+ * - 캐시 무효화, 게시판 버전 증가, 검색 색인 갱신, 이벤트 발행처럼 커밋된 변경에만 따라야 하는 작업용
+ * - 트랜잭션 동기화가 켜져 있으면 커밋 후 실행 (롤백되면 실행하지 않음), 트랜잭션 밖이면 즉시 실행
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    /**
+     * 트랜잭션 커밋 후 실행 (트랜잭션 밖이면 즉시)
+     * @param action 실행할 작업
+     */
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,32 @@
+-- ========================================
+-- 게시글/댓글 기본 스키마
+-- ========================================
+-- - 엔티티(Todo, Comment) 매핑과 같아야 함 (시작 시 ddl-auto=validate로 검증)
+-- - 시퀀스 증가값은 @SequenceGenerator allocationSize(50)와 같아야 함 (pooled)
+
+CREATE SEQUENCE todos_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE comments_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE todos (
+    id          BIGINT       NOT NULL,
+    title       VARCHAR(200) NOT NULL,
+    content     CLOB         NOT NULL,
+    excerpt     VARCHAR(201) NOT NULL, -- Todo.EXCERPT_LENGTH * 2 + 1
+    completed   BOOLEAN      NOT NULL,
+    author      VARCHAR(50)  NOT NULL,
+    view_count  BIGINT       NOT NULL,
+    created_at  TIMESTAMP,
+    updated_at  TIMESTAMP,
+    CONSTRAINT pk_todos PRIMARY KEY (id)
+);
+
+CREATE TABLE comments (
+    id          BIGINT       NOT NULL,
+    content     VARCHAR(500) NOT NULL,
+    author      VARCHAR(50)  NOT NULL,
+    todo_id     BIGINT       NOT NULL,
+    created_at  TIMESTAMP,
+    updated_at  TIMESTAMP,
+    CONSTRAINT pk_comments PRIMARY KEY (id),
+    CONSTRAINT fk_comments_todo FOREIGN KEY (todo_id) REFERENCES todos (id)
+);
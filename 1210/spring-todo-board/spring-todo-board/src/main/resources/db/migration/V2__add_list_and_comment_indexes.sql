@@ -0,0 +1,21 @@
+-- ========================================
+-- 목록/댓글 조회용 인덱스
+-- ========================================
+-- - 목록 기본 정렬(최신순)과 같은 방향(DESC)으로 만들어 정렬 없이 앞에서부터 읽음
+-- - 마지막 id 컬럼은 같은 일시 안의 순서 (Keyset 커서 조건)
+-- - 실행 계획 확인: src/test/java/com/todoboard/repository/QueryPlanTest (mvn test -Dtest=QueryPlanTest)
+
+-- 최신순 목록, 작성일 기간 조건
+CREATE INDEX idx_todos_created_at ON todos (created_at DESC, id DESC);
+
+-- 완료 여부 + 최신순
+CREATE INDEX idx_todos_completed_created_at ON todos (completed, created_at DESC, id DESC);
+
+-- 작성자 + 최신순
+CREATE INDEX idx_todos_author_created_at ON todos (author, created_at DESC, id DESC);
+
+-- 최근 수정순, 수정일 기간 조건
+CREATE INDEX idx_todos_updated_at ON todos (updated_at DESC, id DESC);
+
+-- 게시글별 댓글 목록(작성순), 댓글 수, 최근 댓글 일시
+CREATE INDEX idx_comments_todo_id_created_at ON comments (todo_id, created_at, id);
@@ -0,0 +1,7 @@
+-- ========================================
+-- 댓글 최신순 페이징 인덱스
+-- ========================================
+-- - H2는 ORDER BY 방향과 같은 방향의 인덱스만 정렬에 사용하므로 최신순용 인덱스를 따로 둠
+-- - 작성순은 V2의 idx_comments_todo_id_created_at 사용
+
+CREATE INDEX idx_comments_todo_id_created_at_desc ON comments (todo_id, created_at DESC, id DESC);
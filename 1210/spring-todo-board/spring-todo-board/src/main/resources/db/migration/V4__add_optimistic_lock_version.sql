@@ -0,0 +1,9 @@
+-- ========================================
+-- 낙관적 잠금 버전 컬럼
+-- ========================================
+-- - Todo/Comment의 @Version과 매핑, 수정할 때마다 1씩 증가
+-- - 단일 UPDATE 문 변경(TodoRepository/CommentRepository)은 WHERE version = ? 로 동시 수정을 감지
+-- - 기존 행과 JDBC로 직접 넣는 행(BoardSeeder 등)은 0부터 시작
+
+ALTER TABLE todos ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE comments ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
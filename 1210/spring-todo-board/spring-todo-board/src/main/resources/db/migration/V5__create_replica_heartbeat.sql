@@ -0,0 +1,13 @@
+-- ========================================
+-- 복제본 지연 측정용 하트비트
+-- ========================================
+-- - 복제본 라우팅(todoboard.datasource.routing.enabled=true)을 켜면 ReplicaLagMonitor가
+--   주 DB의 이 행에 현재 시각(epoch 밀리초)을 주기적으로 기록하고 복제본에서 같은 행을 읽어 지연 계산
+-- - 행은 하나만 사용 (id = 1)
+
+CREATE TABLE replica_heartbeat (
+    id INT PRIMARY KEY,
+    beat_millis BIGINT NOT NULL
+);
+
+INSERT INTO replica_heartbeat (id, beat_millis) VALUES (1, 0);
@@ -0,0 +1,66 @@
+package com.todoboard;
+
+import com.todoboard.entity.Todo;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ========================================
+ * 테스트용 게시판 데이터 생성
+ * ========================================
+ * - 게시글 i의 댓글 수는 i % 5, HOT_TODO_ID는 댓글 HOT_COMMENT_COUNT개
+ * - 게시글 i는 i % 3 == 0 이면 완료, 작성자는 "작성자" + (i % 10)
+ * - 스키마는 애플리케이션 시작 시 Flyway 마이그레이션으로 만들어진 상태를 전제로 함
+ */
+public final class TestBoard {
+
+    public static final long HOT_TODO_ID = 1L;
+    public static final int HOT_COMMENT_COUNT = 50;
+    public static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private static final int ID_ALLOCATION_SIZE = 50; // 엔티티 @SequenceGenerator allocationSize와 같아야 함
+
+    private TestBoard() {
+    }
+
+    /**
+     * JDBC 배치 INSERT로 게시글/댓글 저장
+     * - 게시글 i의 작성 일시는 BASE + i초, 댓글 c는 그 뒤 (c + 1)밀리초
+     * @param jdbcTemplate 비어 있는 스키마에 연결된 JdbcTemplate
+     * @param todoCount 저장할 게시글 수
+     */
+    public static void seed(JdbcTemplate jdbcTemplate, int todoCount) {
+        List<Object[]> todos = new ArrayList<>(todoCount);
+        List<Object[]> comments = new ArrayList<>();
+        long commentId = 0;
+
+        for (long id = 1; id <= todoCount; id++) {
+            Timestamp createdAt = Timestamp.valueOf(BASE.plusSeconds(id));
+            String content = "할 일 " + id + " 내용입니다.";
+            todos.add(new Object[]{id, "할 일 " + id, content, Todo.excerptOf(content),
+                    id % 3 == 0, "작성자" + (id % 10), 0L, createdAt, createdAt});
+
+            int commentCount = id == HOT_TODO_ID ? HOT_COMMENT_COUNT : (int) (id % 5);
+            for (int c = 0; c < commentCount; c++) {
+                Timestamp commentedAt = Timestamp.valueOf(BASE.plusSeconds(id).plusNanos((c + 1) * 1_000_000L));
+                comments.add(new Object[]{++commentId, id, "댓글 " + c, "댓글작성자" + c, commentedAt, commentedAt});
+            }
+        }
+
+        jdbcTemplate.batchUpdate("INSERT INTO todos (id, title, content, excerpt, completed, author, view_count, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", todos);
+        jdbcTemplate.batchUpdate("INSERT INTO comments (id, todo_id, content, author, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?)", comments);
+
+        // pooled 시퀀스는 받은 값을 구간의 끝으로 쓰므로 (마지막 ID + allocationSize)부터 시작
+        jdbcTemplate.execute("ALTER SEQUENCE todos_seq RESTART WITH " + (todoCount + ID_ALLOCATION_SIZE));
+        jdbcTemplate.execute("ALTER SEQUENCE comments_seq RESTART WITH " + (commentId + ID_ALLOCATION_SIZE));
+
+        // 옵티마이저가 실제 행 수 기준으로 인덱스를 고르도록 통계 갱신
+        jdbcTemplate.execute("ANALYZE");
+    }
+}
@@ -0,0 +1,323 @@
+package com.todoboard.cache;
+
+import com.todoboard.TestBoard;
+import com.todoboard.dto.BulkAction;
+import com.todoboard.dto.BulkActionRequest;
+import com.todoboard.dto.CommentRequest;
+import com.todoboard.dto.TodoFilter;
+import com.todoboard.dto.TodoRequest;
+import com.todoboard.dto.TodoResponse;
+import com.todoboard.entity.Comment;
+import com.todoboard.entity.Todo;
+import com.todoboard.repository.CommentRepository;
+import com.todoboard.repository.TodoRepository;
+import com.todoboard.service.CommentService;
+import com.todoboard.service.TodoBulkService;
+import com.todoboard.service.TodoService;
+import com.todoboard.service.ViewCountAggregator;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ========================================
+ * 하이버네이트 2차 캐시 일관성 테스트
+ * ========================================
+ * - 게시글/댓글/댓글 컬렉션/목록 첫 페이지를 두 번 읽어 실제로 캐시에서 읽히는지 확인한 뒤 변경 경로를 실행
+ * - 변경 후 서비스가 돌려주는 값을 JDBC로 읽은 DB 값과 비교 (다르면 오래된 캐시 항목)
+ * - 변경 경로마다 서로 겹치지 않는 게시글을 사용 (모두 최신순 첫 페이지 안, 실행 순서와 무관)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:second-level-cache;DB_CLOSE_ON_EXIT=FALSE",
+        "todoboard.reactive-api.enabled=false",
+        "todoboard.view-count.flush-interval-ms=3600000", // 조회수는 테스트에서 직접 반영
+        "spring.jpa.show-sql=false"
+})
+class SecondLevelCacheTest {
+
+    private static final int TODO_COUNT = 200;
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 10); // 최신순 첫 페이지: 게시글 200 ~ 191
+
+    // 첫 페이지에 있는 게시글 (TestBoard 댓글 수 규칙 i % 5, 완료 여부 규칙 i % 3 == 0)
+    private static final long TOGGLED_TODO_ID = 199L;
+    private static final long EDITED_TODO_ID = 198L;
+    private static final long VIEWED_TODO_ID = 200L;
+    private static final List<Long> BULK_COMPLETED_TODO_IDS = List.of(196L, 197L);
+    private static final long COMMENTED_TODO_ID = 191L;
+    private static final long DELETED_TODO_ID = 194L;
+    private static final List<Long> BULK_DELETED_TODO_IDS = List.of(192L, 193L);
+    private static final long UNTOUCHED_TODO_ID = 195L; // 단건 변경 후에도 캐시에 남아야 하는 게시글
+    private static final long UNTOUCHED_COMMENTS_TODO_ID = 189L; // 댓글 4개, 단건 변경 후에도 댓글이 캐시에 남아야 함
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private TodoBulkService todoBulkService;
+
+    @Autowired
+    private ViewCountAggregator viewCountAggregator;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeAll
+    static void seed(@Autowired JdbcTemplate jdbcTemplate) {
+        TestBoard.seed(jdbcTemplate, TODO_COUNT);
+    }
+
+    @BeforeEach
+    void clearSecondLevelCache() {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    @Test
+    void toggleCompleted() {
+        warmTodo(TOGGLED_TODO_ID);
+
+        todoService.toggleCompleted(TOGGLED_TODO_ID);
+
+        assertTodoMatchesDatabase(TOGGLED_TODO_ID);
+    }
+
+    @Test
+    void updateTodo() {
+        warmTodo(EDITED_TODO_ID);
+
+        todoService.updateTodo(EDITED_TODO_ID, TodoRequest.builder()
+                .title("수정된 제목").content("수정된 내용").author("작성자8")
+                .version(storedVersion("todos", EDITED_TODO_ID)).build());
+
+        assertTodoMatchesDatabase(EDITED_TODO_ID);
+    }
+
+    @Test
+    void updateComment() {
+        long commentId = firstCommentId(EDITED_TODO_ID);
+        assertCached(Comment.CACHE_REGION, () -> commentContent(commentId));
+
+        commentService.updateComment(commentId, CommentRequest.builder()
+                .content("수정된 댓글").author("댓글작성자0")
+                .version(storedVersion("comments", commentId)).build());
+
+        assertThat(commentContent(commentId)).isEqualTo(
+                jdbcTemplate.queryForObject("SELECT content FROM comments WHERE id = ?", String.class, commentId));
+    }
+
+    @Test
+    void singleRowChangesKeepOtherEntriesCached() {
+        long commentId = firstCommentId(UNTOUCHED_COMMENTS_TODO_ID);
+        assertCached(Todo.CACHE_REGION, () -> todoService.getTodo(UNTOUCHED_TODO_ID));
+        assertCached(Comment.CACHE_REGION, () -> commentContent(commentId));
+
+        todoService.toggleCompleted(TOGGLED_TODO_ID);
+        todoService.updateTodo(EDITED_TODO_ID, TodoRequest.builder()
+                .title("다시 수정된 제목").content("다시 수정된 내용").author("작성자8")
+                .version(storedVersion("todos", EDITED_TODO_ID)).build());
+        commentService.updateComment(firstCommentId(EDITED_TODO_ID), CommentRequest.builder()
+                .content("다시 수정된 댓글").author("댓글작성자0")
+                .version(storedVersion("comments", firstCommentId(EDITED_TODO_ID))).build());
+
+        // 변경 감지 UPDATE는 바뀐 항목만 갱신하므로 다른 게시글/댓글은 한 번 읽어도 캐시에서 적중
+        assertHitOnce(Todo.CACHE_REGION, () -> todoService.getTodo(UNTOUCHED_TODO_ID));
+        assertHitOnce(Comment.CACHE_REGION, () -> commentContent(commentId));
+    }
+
+    @Test
+    void createAndDeleteComments() {
+        assertCached(Todo.COMMENTS_CACHE_REGION, () -> commentCount(COMMENTED_TODO_ID));
+        long createdId = commentService.createComment(COMMENTED_TODO_ID, CommentRequest.builder()
+                .content("새 댓글").author("댓글작성자1").build()).getId();
+        assertCommentCountMatchesDatabase(COMMENTED_TODO_ID);
+
+        assertCached(Todo.COMMENTS_CACHE_REGION, () -> commentCount(COMMENTED_TODO_ID));
+        commentService.deleteComment(createdId);
+        commentService.deleteComment(firstCommentId(COMMENTED_TODO_ID));
+        assertCommentCountMatchesDatabase(COMMENTED_TODO_ID);
+    }
+
+    @Test
+    void flushViewCounts() {
+        assertCached(Todo.CACHE_REGION, () -> todoService.getTodo(VIEWED_TODO_ID));
+        for (int i = 0; i < 3; i++) {
+            todoService.countView(VIEWED_TODO_ID);
+        }
+
+        viewCountAggregator.flushOnShutdown();
+
+        // 목록 조회 결과에는 조회수가 없으므로 (목록 화면은 getViewCounts로 따로 조회) 단건 조회와 목록용 조회수를 비교
+        Long stored = jdbcTemplate.queryForObject("SELECT view_count FROM todos WHERE id = ?", Long.class, VIEWED_TODO_ID);
+        assertThat(todoService.getTodo(VIEWED_TODO_ID).getViewCount()).isEqualTo(stored);
+        assertThat(todoService.getViewCounts(List.of(VIEWED_TODO_ID))).containsEntry(VIEWED_TODO_ID, stored);
+    }
+
+    @Test
+    void bulkComplete() throws IOException {
+        BULK_COMPLETED_TODO_IDS.forEach(this::warmTodo);
+
+        todoBulkService.apply(BulkActionRequest.builder()
+                .action(BulkAction.COMPLETE).ids(BULK_COMPLETED_TODO_IDS).build(), new ByteArrayOutputStream());
+
+        BULK_COMPLETED_TODO_IDS.forEach(this::assertTodoMatchesDatabase);
+    }
+
+    @Test
+    void deleteTodo() {
+        long commentId = firstCommentId(DELETED_TODO_ID);
+        warmTodo(DELETED_TODO_ID);
+        assertCached(Comment.CACHE_REGION, () -> commentContent(commentId));
+
+        todoService.deleteTodo(DELETED_TODO_ID);
+
+        assertDeleted(DELETED_TODO_ID);
+        Optional<Comment> comment = readOnly().execute(status -> commentRepository.findById(commentId));
+        assertThat(comment).isEmpty();
+    }
+
+    @Test
+    void bulkDelete() throws IOException {
+        BULK_DELETED_TODO_IDS.forEach(this::warmTodo);
+
+        todoBulkService.apply(BulkActionRequest.builder()
+                .action(BulkAction.DELETE).ids(BULK_DELETED_TODO_IDS).build(), new ByteArrayOutputStream());
+
+        BULK_DELETED_TODO_IDS.forEach(this::assertDeleted);
+    }
+
+    /**
+     * 게시글 단건과 목록 첫 페이지를 캐시에 올리고 캐시에서 읽히는지 확인
+     */
+    private void warmTodo(long todoId) {
+        assertCached(Todo.CACHE_REGION, () -> todoService.getTodo(todoId));
+        assertCached(Todo.FIRST_PAGES_CACHE_REGION, this::firstPage);
+    }
+
+    /**
+     * 두 번 읽어 두 번째 읽기가 리전에서 적중하는지 확인
+     */
+    private void assertCached(String region, Supplier<?> read) {
+        read.get();
+        long before = hits(region);
+        read.get();
+        assertThat(hits(region)).as("%s 리전 적중 수", region).isGreaterThan(before);
+    }
+
+    /**
+     * 한 번 읽어 리전에서 적중하는지 확인 (이미 캐시에 있어야 하는 항목)
+     */
+    private void assertHitOnce(String region, Supplier<?> read) {
+        long before = hits(region);
+        read.get();
+        assertThat(hits(region)).as("%s 리전 적중 수", region).isGreaterThan(before);
+    }
+
+    /**
+     * 리전 적중 수 (쿼리 결과 리전은 처음 사용할 때 만들어지므로 그 전에는 0)
+     */
+    private long hits(String region) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        CacheRegionStatistics stats = Todo.FIRST_PAGES_CACHE_REGION.equals(region)
+                ? statistics.getQueryRegionStatistics(region)
+                : statistics.getDomainDataRegionStatistics(region);
+        return stats != null ? stats.getHitCount() : 0;
+    }
+
+    /**
+     * 단건 조회와 목록 첫 페이지 값이 DB와 같은지 확인
+     */
+    private void assertTodoMatchesDatabase(long todoId) {
+        Map<String, Object> stored = jdbcTemplate.queryForMap(
+                "SELECT title, completed, view_count, version FROM todos WHERE id = ?", todoId);
+
+        TodoResponse single = todoService.getTodo(todoId);
+        assertThat(single.getTitle()).isEqualTo(stored.get("title"));
+        assertThat(single.getCompleted()).isEqualTo(stored.get("completed"));
+        assertThat(single.getViewCount()).isEqualTo(((Number) stored.get("view_count")).longValue());
+        assertThat(single.getVersion()).isEqualTo(((Number) stored.get("version")).longValue());
+
+        TodoResponse listed = firstPage().stream()
+                .filter(todo -> todo.getId() == todoId)
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("첫 페이지에 게시글 " + todoId + " 없음"));
+        assertThat(listed.getTitle()).isEqualTo(stored.get("title"));
+        assertThat(listed.getCompleted()).isEqualTo(stored.get("completed"));
+    }
+
+    private void assertCommentCountMatchesDatabase(long todoId) {
+        assertThat(commentCount(todoId)).isEqualTo(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM comments WHERE todo_id = ?", Integer.class, todoId));
+    }
+
+    /**
+     * 삭제된 게시글이 단건 조회, 목록 첫 페이지 어디에도 나오지 않는지 확인
+     */
+    private void assertDeleted(long todoId) {
+        Optional<Todo> todo = readOnly().execute(status -> todoRepository.findById(todoId));
+        assertThat(todo).isEmpty();
+        assertThat(firstPage()).extracting(TodoResponse::getId).doesNotContain(todoId);
+    }
+
+    private List<TodoResponse> firstPage() {
+        return todoService.findTodos(new TodoFilter(), FIRST_PAGE).getContent();
+    }
+
+    private String commentContent(long commentId) {
+        return readOnly().execute(status ->
+                commentRepository.findById(commentId).map(Comment::getContent).orElse(null));
+    }
+
+    private int commentCount(long todoId) {
+        return readOnly().execute(status -> todoRepository.findById(todoId)
+                .map(todo -> todo.getComments().size())
+                .orElse(-1));
+    }
+
+    private long firstCommentId(long todoId) {
+        return jdbcTemplate.queryForObject("SELECT MIN(id) FROM comments WHERE todo_id = ?", Long.class, todoId);
+    }
+
+    private long storedVersion(String table, long id) {
+        return jdbcTemplate.queryForObject("SELECT version FROM " + table + " WHERE id = ?", Long.class, id);
+    }
+
+    private TransactionTemplate readOnly() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+}
@@ -0,0 +1,98 @@
+package com.todoboard.controller;
+
+import com.todoboard.TestBoard;
+import com.todoboard.metrics.QueryBudgets;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * ========================================
+ * 화면별 쿼리 예산 테스트
+ * ========================================
+ * - 컨트롤러 @QueryBudget 값과 같은 예산으로 요청 하나의 SQL 실행 수를 검증
+ * - 캐시가 채워지면 쿼리가 줄어드므로 매번 2차 캐시를 비우고, 게시글도 테스트마다 다른 것을 사용 (캐시가 빈 상태 기준)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-budget;DB_CLOSE_ON_EXIT=FALSE",
+        "todoboard.reactive-api.enabled=false",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureMockMvc
+class QueryBudgetTest {
+
+    private static final int TODO_COUNT = 100;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeAll
+    static void seed(@Autowired JdbcTemplate jdbcTemplate) {
+        TestBoard.seed(jdbcTemplate, TODO_COUNT);
+    }
+
+    @BeforeEach
+    void clearSecondLevelCache() {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    @Test
+    void listStaysWithinTwoQueries() throws Exception {
+        QueryBudgets.assertAtMost(2, () -> mockMvc.perform(get("/todos"))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void filteredListStaysWithinTwoQueries() throws Exception {
+        QueryBudgets.assertAtMost(2, () -> mockMvc.perform(get("/todos")
+                        .param("completed", "false")
+                        .param("author", "작성자3")
+                        .param("page", "1"))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void detailStaysWithinThreeQueries() throws Exception {
+        QueryBudgets.assertAtMost(3, () -> mockMvc.perform(get("/todos/{id}", TestBoard.HOT_TODO_ID))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void detailWithoutCommentsStaysWithinThreeQueries() throws Exception {
+        QueryBudgets.assertAtMost(3, () -> mockMvc.perform(get("/todos/{id}", 5L))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void viewCountStaysWithinOneQuery() throws Exception {
+        QueryBudgets.assertAtMost(1, () -> mockMvc.perform(get("/todos/{id}/views", 7L))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void listViewCountsStayWithinOneQuery() throws Exception {
+        QueryBudgets.assertAtMost(1, () -> mockMvc.perform(get("/todos/views").param("ids", "11,12,13"))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void moreCommentsStaysWithinOneQuery() throws Exception {
+        QueryBudgets.assertAtMost(1, () -> mockMvc.perform(get("/todos/{id}/comments", TestBoard.HOT_TODO_ID)
+                        .param("order", "LATEST"))
+                .andExpect(status().isOk()));
+    }
+}
@@ -0,0 +1,84 @@
+package com.todoboard.controller;
+
+import com.todoboard.TestBoard;
+import com.todoboard.service.TodoBulkService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * ========================================
+ * 일괄 처리 요청 검증 테스트
+ * ========================================
+ * - 잘못된 요청은 아무것도 처리하지 않고 400 (500이 아님)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:todo-bulk;DB_CLOSE_ON_EXIT=FALSE",
+        "todoboard.reactive-api.enabled=false",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureMockMvc
+class TodoBulkControllerTest {
+
+    private static final int TODO_COUNT = 20;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @BeforeAll
+    static void seed(@Autowired JdbcTemplate jdbcTemplate) {
+        TestBoard.seed(jdbcTemplate, TODO_COUNT);
+    }
+
+    @Test
+    void missingActionIsBadRequest() throws Exception {
+        bulk("{\"ids\":[1,2,3]}").andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void idsWithFilterIsBadRequest() throws Exception {
+        bulk("{\"action\":\"COMPLETE\",\"ids\":[1],\"filter\":{\"author\":\"작성자1\"}}")
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void noTargetWithoutAllIsBadRequest() throws Exception {
+        bulk("{\"action\":\"DELETE\"}").andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void tooManyIdsIsBadRequest() throws Exception {
+        String ids = IntStream.rangeClosed(1, TodoBulkService.MAX_IDS + 1)
+                .mapToObj(Integer::toString)
+                .collect(Collectors.joining(","));
+        bulk("{\"action\":\"REOPEN\",\"ids\":[" + ids + "]}").andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void validRequestStreamsProgress() throws Exception {
+        bulk("{\"action\":\"REOPEN\",\"ids\":[3,6]}")
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andExpect(content().string(containsString("\"done\":true")));
+    }
+
+    private ResultActions bulk(String body) throws Exception {
+        return mockMvc.perform(post("/todos/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body));
+    }
+}
@@ -0,0 +1,62 @@
+package com.todoboard.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * ========================================
+ * 가져오기 요청 검증 테스트
+ * ========================================
+ * - 형식이 잘못된 본문은 400 (500이 아님)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:todo-import;DB_CLOSE_ON_EXIT=FALSE",
+        "todoboard.reactive-api.enabled=false",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureMockMvc
+class TodoImportControllerTest {
+
+    private static final String CSV_HEADER = "type,legacy_id,title,content,author,created_at\n";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void malformedJsonIsBadRequest() throws Exception {
+        importBody("application/x-ndjson", "{\"title\":\"제목\",\n").andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void missingCsvFieldsIsBadRequest() throws Exception {
+        importBody("text/csv", CSV_HEADER + "TODO,1,제목\n").andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void invalidCsvDateIsBadRequest() throws Exception {
+        importBody("text/csv", CSV_HEADER + "TODO,1,제목,내용,작성자,2024-13-45\n").andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void validCsvIsImported() throws Exception {
+        importBody("text/csv", CSV_HEADER + "TODO,1,제목,내용,작성자,2024-01-02\nCOMMENT,1,,댓글,댓글작성자,2024-01-03\n")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.todoCount").value(1));
+    }
+
+    private ResultActions importBody(String contentType, String body) throws Exception {
+        return mockMvc.perform(post("/todos/import")
+                .contentType(contentType)
+                .content(body.getBytes(StandardCharsets.UTF_8)));
+    }
+}
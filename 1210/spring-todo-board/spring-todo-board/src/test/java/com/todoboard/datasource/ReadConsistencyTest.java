@@ -0,0 +1,46 @@
+package com.todoboard.datasource;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * ========================================
+ * 읽기 일관성 기준 시각 테스트
+ * ========================================
+ * - 캐시 채우기(visibleAfter)와 주 DB 강제(onPrimary)가 복제본 선택 기준 시각에 반영되는지 확인
+ */
+class ReadConsistencyTest {
+
+    @Test
+    void noRequirementOutsideRequest() {
+        assertEquals(0L, ReadConsistency.requiredVisibleAfter());
+    }
+
+    @Test
+    void visibleAfterUsesLaterTimeWhenNested() {
+        long required = ReadConsistency.visibleAfter(200L,
+                () -> ReadConsistency.visibleAfter(100L, ReadConsistency::requiredVisibleAfter));
+
+        assertEquals(200L, required);
+        assertEquals(0L, ReadConsistency.requiredVisibleAfter());
+    }
+
+    @Test
+    void visibleAfterRestoresOuterTime() {
+        long restored = ReadConsistency.visibleAfter(100L, () -> {
+            ReadConsistency.visibleAfter(300L, ReadConsistency::requiredVisibleAfter);
+            return ReadConsistency.requiredVisibleAfter();
+        });
+
+        assertEquals(100L, restored);
+    }
+
+    @Test
+    void primaryOverridesVisibleAfter() {
+        long required = ReadConsistency.visibleAfter(100L,
+                () -> ReadConsistency.onPrimary(ReadConsistency::requiredVisibleAfter));
+
+        assertEquals(Long.MAX_VALUE, required);
+    }
+}
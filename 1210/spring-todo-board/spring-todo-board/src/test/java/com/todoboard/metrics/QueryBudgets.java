@@ -0,0 +1,46 @@
+package com.todoboard.metrics;
+
+import java.util.concurrent.Callable;
+
+/**
+ * ========================================
+ * 테스트용 쿼리 예산 검증
+ * ========================================
+ * - 같은 스레드에서 실행되는 코드만 집계 (서비스 직접 호출, MockMvc 등)
+ * - 사용 예: QueryBudgets.assertAtMost(2, () -> mockMvc.perform(get("/todos")));
+ */
+public final class QueryBudgets {
+
+    private QueryBudgets() {
+    }
+
+    /**
+     * 작업을 실행하며 쿼리 집계
+     * @param action 측정할 작업
+     * @return 집계 결과
+     */
+    public static QueryStats measure(Callable<?> action) throws Exception {
+        QueryStats stats = QueryStats.open();
+        try {
+            action.call();
+        } finally {
+            stats.close();
+        }
+        return stats;
+    }
+
+    /**
+     * 작업이 최대 SQL 수 이하로 실행되는지 검증
+     * @param maxStatements 허용하는 최대 SQL 실행 수
+     * @param action 측정할 작업
+     * @return 집계 결과 (행 수 등 추가 검증용)
+     * @throws AssertionError 예산을 넘은 경우
+     */
+    public static QueryStats assertAtMost(int maxStatements, Callable<?> action) throws Exception {
+        QueryStats stats = measure(action);
+        if (stats.getStatementCount() > maxStatements) {
+            throw new AssertionError("쿼리 예산 초과: 최대 " + maxStatements + "개, 실제 " + stats);
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,354 @@
+package com.todoboard.repository;
+
+import com.todoboard.TestBoard;
+import com.todoboard.dto.TodoCursor;
+import com.todoboard.dto.TodoFilter;
+import com.todoboard.dto.TodoSort;
+import com.todoboard.entity.Comment;
+import com.todoboard.entity.Todo;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ========================================
+ * 리포지토리 쿼리 실행 계획 테스트 (EXPLAIN)
+ * ========================================
+ * - Flyway 마이그레이션으로 만든 스키마에 데이터를 채우고 리포지토리 메서드를 실제로 호출
+ * - 하이버네이트가 만든 SQL을 같은 파라미터로 H2 EXPLAIN 하여 전체 스캔(tableScan)이 없는지 확인
+ *   (H2 행 수 바로 조회 "direct lookup"은 제외)
+ * - 캐시에서 읽으면 SQL이 실행되지 않으므로 매번 2차 캐시를 비우고, SQL이 하나 이상 실행됐는지도 확인
+ * - 변경/삭제 메서드는 서로 겹치지 않는 게시글만 사용 (실행 순서와 무관)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-plan;DB_CLOSE_ON_EXIT=FALSE",
+        "todoboard.reactive-api.enabled=false",
+        "spring.jpa.show-sql=false"
+})
+class QueryPlanTest {
+
+    private static final int TODO_COUNT = 20_000;
+    private static final StatementRecorder RECORDER = new StatementRecorder();
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 10);
+    private static final Pageable COMMENT_PAGE = PageRequest.of(0, 21); // 댓글 기본 크기 + 1
+    private static final List<Long> IDS = List.of(TestBoard.HOT_TODO_ID, 2L, 3L);
+    private static final List<Long> COMPLETED_TODO_IDS = List.of(8L, 9L, 10L);
+    private static final List<Long> BULK_DELETED_TODO_IDS = List.of(5L, 6L, 7L);
+    private static final long TOGGLED_TODO_ID = 11L;
+    private static final long EDITED_TODO_ID = 12L;
+    private static final long EDITED_COMMENT_ID = COMMENT_PAGE.getPageSize() + 1; // 인기 게시글의 댓글
+    private static final long DELETED_TODO_ID = 4L; // 댓글 4개 (TestBoard 댓글 수 규칙 i % 5)
+    private static final long MIDDLE_ID = TODO_COUNT / 2;
+    private static final LocalDate FIRST_DAY = TestBoard.BASE.toLocalDate();
+
+    // 인기 게시글의 첫 댓글 목록 마지막 댓글 (TestBoard 댓글 ID/일시 규칙)
+    private static final long COMMENT_ID = COMMENT_PAGE.getPageSize();
+    private static final LocalDateTime COMMENT_AT =
+            TestBoard.BASE.plusSeconds(TestBoard.HOT_TODO_ID).plusNanos(COMMENT_ID * 1_000_000L);
+
+    @Autowired
+    private TodoRepository todos;
+
+    @Autowired
+    private CommentRepository comments;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @TestConfiguration
+    static class RecordingConfig {
+
+        /**
+         * DataSource를 실행 SQL 기록용으로 감싸기
+         */
+        @Bean
+        static BeanPostProcessor statementRecordingPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource ? RECORDER.wrap((DataSource) bean) : bean;
+                }
+            };
+        }
+    }
+
+    @BeforeAll
+    static void seed(@Autowired JdbcTemplate jdbcTemplate) {
+        TestBoard.seed(jdbcTemplate, TODO_COUNT);
+    }
+
+    @BeforeEach
+    void clearSecondLevelCache() {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        RECORDER.drain();
+    }
+
+    @Test
+    @DisplayName("TodoRepository.findSummaries - 조건 없음 (최신순)")
+    void findSummaries() throws SQLException {
+        assertUsesIndexes(() -> todos.findSummaries(new TodoFilter(), FIRST_PAGE));
+    }
+
+    @Test
+    @DisplayName("TodoRepository.findSummaries - 완료 여부")
+    void findSummariesByCompleted() throws SQLException {
+        assertUsesIndexes(() -> todos.findSummaries(TodoFilter.builder().completed(false).build(), FIRST_PAGE));
+    }
+
+    @Test
+    @DisplayName("TodoRepository.findSummaries - 작성자")
+    void findSummariesByAuthor() throws SQLException {
+        assertUsesIndexes(() -> todos.findSummaries(TodoFilter.builder().author("작성자7").build(), FIRST_PAGE));
+    }
+
+    @Test
+    @DisplayName("TodoRepository.findSummaries - 작성일 기간")
+    void findSummariesByCreatedRange() throws SQLException {
+        assertUsesIndexes(() -> todos.findSummaries(
+                TodoFilter.builder().createdFrom(FIRST_DAY).createdTo(FIRST_DAY).build(), FIRST_PAGE));
+    }
+
+    @Test
+    @DisplayName("TodoRepository.findSummaries - 수정일 기간 + 최근 수정순")
+    void findSummariesByUpdatedRange() throws SQLException {
+        assertUsesIndexes(() -> todos.findSummaries(TodoFilter.builder().updatedFrom(FIRST_DAY).updatedTo(FIRST_DAY)
+                .sort(TodoSort.UPDATED).build(), FIRST_PAGE));
+    }
+
+    @Test
+    @DisplayName("TodoRepository.findSummaries - 완료 여부 + 작성자 + 오래된 순")
+    void findSummariesByCompletedAndAuthor() throws SQLException {
+        assertUsesIndexes(() -> todos.findSummaries(TodoFilter.builder().completed(true).author("작성자3")
+                .sort(TodoSort.OLDEST).build(), FIRST_PAGE));
+    }
+
+    @Test
+    @DisplayName("TodoRepository.findSummarySlice - 다음 목록")
+    void findSummarySliceOlder() throws SQLException {
+        assertUsesIndexes(() -> todos.findSummarySlice(new TodoFilter(), cursor(false), 11));
+    }
+
+    @Test
+    @DisplayName("TodoRepository.findSummarySlice - 이전 목록")
+    void findSummarySliceNewer() throws SQLException {
+        assertUsesIndexes(() -> todos.findSummarySlice(new TodoFilter(), cursor(true), 11));
+    }
+
+    @Test
+    @DisplayName("TodoRepository.findSummarySlice - 완료 여부 + 다음 목록")
+    void findSummarySliceByCompleted() throws SQLException {
+        assertUsesIndexes(() -> todos.findSummarySlice(TodoFilter.builder().completed(false).build(), cursor(false), 11));
+    }
+
+    @Test
+    @DisplayName("TodoRepository.findSummariesByIdIn")
+    void findSummariesByIdIn() throws SQLException {
+        assertUsesIndexes(() -> todos.findSummariesByIdIn(IDS));
+    }
+
+    @Test
+    @DisplayName("TodoRepository.findViewCountsByIdIn")
+    void findViewCountsByIdIn() throws SQLException {
+        assertUsesIndexes(() -> todos.findViewCountsByIdIn(IDS));
+    }
+
+    @Test
+    @DisplayName("TodoRepository.findDetailVersionById")
+    void findDetailVersionById() throws SQLException {
+        assertUsesIndexes(() -> todos.findDetailVersionById(TestBoard.HOT_TODO_ID));
+    }
+
+    @Test
+    @DisplayName("TodoRepository.streamAllByOrderById")
+    void streamAllByOrderById() throws SQLException {
+        assertUsesIndexes(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            try (Stream<Todo> stream = todos.streamAllByOrderById()) {
+                stream.limit(10).forEach(todo -> { });
+            }
+        }));
+    }
+
+    @Test
+    @DisplayName("TodoRepository.findById + 완료 토글 변경 감지 (버전 조건 UPDATE)")
+    void toggleCompleted() throws SQLException {
+        assertUsesIndexes(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                todos.findById(TOGGLED_TODO_ID).ifPresent(Todo::toggleCompleted)));
+    }
+
+    @Test
+    @DisplayName("TodoRepository.findById + 내용 수정 변경 감지 (버전 조건 UPDATE)")
+    void updateTodoContent() throws SQLException {
+        assertUsesIndexes(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                todos.findById(EDITED_TODO_ID).ifPresent(todo -> todo.updateContent("제목", "내용"))));
+    }
+
+    @Test
+    @DisplayName("CommentRepository.findById + 내용 수정 변경 감지 (버전 조건 UPDATE)")
+    void updateCommentContent() throws SQLException {
+        assertUsesIndexes(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                comments.findById(EDITED_COMMENT_ID).ifPresent(comment -> comment.updateContent("수정된 댓글"))));
+    }
+
+    @Test
+    @DisplayName("TodoRepository.findIdsAfter - 완료 여부 (일괄 처리 대상)")
+    void findIdsAfter() throws SQLException {
+        assertUsesIndexes(() -> todos.findIdsAfter(TodoFilter.builder().completed(false).build(), MIDDLE_ID, 1000));
+    }
+
+    @Test
+    @DisplayName("TodoRepository.countByFilter - 작성자 (일괄 처리 대상 수)")
+    void countByFilter() throws SQLException {
+        assertUsesIndexes(() -> todos.countByFilter(TodoFilter.builder().author("작성자7").build()));
+    }
+
+    @Test
+    @DisplayName("TodoRepository.findIdsForCompletedChange + updateCompletedIn (일괄 완료)")
+    void updateCompletedIn() throws SQLException {
+        assertUsesIndexes(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                todos.updateCompletedIn(todos.findIdsForCompletedChange(COMPLETED_TODO_IDS, true),
+                        true, LocalDateTime.now())));
+    }
+
+    @Test
+    @DisplayName("CommentRepository.findPageOldestFirst")
+    void findPageOldestFirst() throws SQLException {
+        assertUsesIndexes(() -> comments.findPageOldestFirst(TestBoard.HOT_TODO_ID, COMMENT_PAGE));
+    }
+
+    @Test
+    @DisplayName("CommentRepository.findPageOldestFirstAfter")
+    void findPageOldestFirstAfter() throws SQLException {
+        assertUsesIndexes(() -> comments.findPageOldestFirstAfter(TestBoard.HOT_TODO_ID, COMMENT_AT, COMMENT_ID, COMMENT_PAGE));
+    }
+
+    @Test
+    @DisplayName("CommentRepository.findPageNewestFirst")
+    void findPageNewestFirst() throws SQLException {
+        assertUsesIndexes(() -> comments.findPageNewestFirst(TestBoard.HOT_TODO_ID, COMMENT_PAGE));
+    }
+
+    @Test
+    @DisplayName("CommentRepository.findPageNewestFirstAfter")
+    void findPageNewestFirstAfter() throws SQLException {
+        assertUsesIndexes(() -> comments.findPageNewestFirstAfter(TestBoard.HOT_TODO_ID, COMMENT_AT, COMMENT_ID, COMMENT_PAGE));
+    }
+
+    @Test
+    @DisplayName("CommentRepository.countByTodoId")
+    void countByTodoId() throws SQLException {
+        assertUsesIndexes(() -> comments.countByTodoId(TestBoard.HOT_TODO_ID));
+    }
+
+    @Test
+    @DisplayName("CommentRepository.streamAllByOrderByTodoId")
+    void streamAllByOrderByTodoId() throws SQLException {
+        assertUsesIndexes(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            try (Stream<Comment> stream = comments.streamAllByOrderByTodoId()) {
+                stream.limit(10).forEach(comment -> { });
+            }
+        }));
+    }
+
+    @Test
+    @DisplayName("TodoBulkService 일괄 삭제 - 댓글 일괄 삭제 + 게시글 일괄 삭제")
+    void deleteAllByIdsInBulk() throws SQLException {
+        assertUsesIndexes(() -> {
+            comments.deleteAllByTodoIdsInBulk(BULK_DELETED_TODO_IDS);
+            todos.deleteAllByIdInBulk(BULK_DELETED_TODO_IDS);
+        });
+    }
+
+    @Test
+    @DisplayName("TodoService.deleteTodo - 댓글 일괄 삭제 + 게시글 삭제")
+    void deleteByIdInBulk() throws SQLException {
+        assertUsesIndexes(() -> {
+            comments.deleteAllByTodoIdInBulk(DELETED_TODO_ID);
+            todos.deleteByIdInBulk(DELETED_TODO_ID);
+        });
+    }
+
+    private static TodoCursor cursor(boolean backward) {
+        return new TodoCursor(TestBoard.BASE.plusSeconds(MIDDLE_ID), MIDDLE_ID, backward);
+    }
+
+    /**
+     * 작업이 실행한 SQL을 모두 EXPLAIN 하여 전체 스캔이 없는지 검증
+     */
+    private void assertUsesIndexes(Runnable action) throws SQLException {
+        action.run();
+        List<StatementRecorder.RecordedStatement> statements = RECORDER.drain();
+        assertThat(statements).as("실행된 SQL").isNotEmpty();
+
+        List<String> scans = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            for (StatementRecorder.RecordedStatement statement : statements) {
+                String plan = explain(connection, statement);
+                if (countOf(plan, "tableScan") > countOf(plan, "direct lookup")) {
+                    scans.add(statement.sql + "\n" + plan);
+                }
+            }
+        }
+        assertThat(scans).as("전체 스캔 SQL").isEmpty();
+    }
+
+    /**
+     * 기록된 SQL을 같은 파라미터로 EXPLAIN
+     */
+    private static String explain(Connection connection, StatementRecorder.RecordedStatement statement)
+            throws SQLException {
+        try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + statement.sql)) {
+            for (Map.Entry<Integer, Object> parameter : statement.parameters.entrySet()) {
+                explain.setObject(parameter.getKey(), parameter.getValue());
+            }
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet rs = explain.executeQuery()) {
+                while (rs.next()) {
+                    plan.append(rs.getString(1));
+                }
+            }
+            return plan.toString();
+        }
+    }
+
+    private static int countOf(String text, String token) {
+        int count = 0;
+        for (int i = text.indexOf(token); i >= 0; i = text.indexOf(token, i + token.length())) {
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,124 @@
+package com.todoboard.repository;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * ========================================
+ * 실행된 SQL + 바인딩 파라미터 기록 (QueryPlanTest용)
+ * ========================================
+ * - DataSource를 감싸 PreparedStatement의 set*(index, value) 호출과 실행 SQL을 기록
+ * - 하이버네이트가 실제로 만든 SQL을 같은 파라미터로 EXPLAIN 하기 위해 사용
+ */
+final class StatementRecorder {
+
+    /**
+     * 기록된 실행 한 건
+     */
+    static final class RecordedStatement {
+
+        final String sql;
+        final Map<Integer, Object> parameters;
+
+        RecordedStatement(String sql, Map<Integer, Object> parameters) {
+            this.sql = sql;
+            this.parameters = parameters;
+        }
+    }
+
+    private final List<RecordedStatement> statements = Collections.synchronizedList(new ArrayList<>());
+
+    /**
+     * 기록하는 DataSource로 감싸기
+     */
+    DataSource wrap(DataSource dataSource) {
+        return new DelegatingDataSource(dataSource) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return recording(super.getConnection());
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                return recording(super.getConnection(username, password));
+            }
+        };
+    }
+
+    /**
+     * 지금까지 기록된 실행을 꺼내고 비우기
+     */
+    List<RecordedStatement> drain() {
+        synchronized (statements) {
+            List<RecordedStatement> drained = new ArrayList<>(statements);
+            statements.clear();
+            return drained;
+        }
+    }
+
+    private Connection recording(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (isIdentityMethod(method)) {
+                        return identity(proxy, method, args);
+                    }
+                    Object result = invoke(connection, method, args);
+                    if (method.getName().equals("prepareStatement") && result instanceof PreparedStatement) {
+                        return recording((PreparedStatement) result, (String) args[0]);
+                    }
+                    return result;
+                });
+    }
+
+    private PreparedStatement recording(PreparedStatement statement, String sql) {
+        Map<Integer, Object> parameters = new TreeMap<>();
+        return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class},
+                (proxy, method, args) -> {
+                    if (isIdentityMethod(method)) {
+                        return identity(proxy, method, args);
+                    }
+                    String name = method.getName();
+                    if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                        parameters.put((Integer) args[0], name.equals("setNull") ? null : args[1]);
+                    } else if (name.equals("clearParameters")) {
+                        parameters.clear();
+                    } else if (name.startsWith("execute")) {
+                        statements.add(new RecordedStatement(sql, new TreeMap<>(parameters)));
+                    }
+                    return invoke(statement, method, args);
+                });
+    }
+
+    /**
+     * equals/hashCode는 프록시 자신 기준 (대상에 넘기면 프록시와 같지 않다고 판단됨)
+     */
+    private static boolean isIdentityMethod(Method method) {
+        return (method.getName().equals("equals") && method.getParameterCount() == 1)
+                || (method.getName().equals("hashCode") && method.getParameterCount() == 0);
+    }
+
+    private static Object identity(Object proxy, Method method, Object[] args) {
+        return method.getName().equals("equals") ? proxy == args[0] : System.identityHashCode(proxy);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}